@@ -0,0 +1,131 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Compact adjacency graph of the board. Cells are numbered row * numColumns + col
+ * and the neighbors of every cell are stored back to back in one int array
+ */
+package clueGame;
+
+import java.util.Arrays;
+
+public class AdjacencyGraph {
+	private static final int EDGES_PER_CELL = 4;
+	private int numRows, numColumns;
+	private int[] offsets;
+	private int[] neighbors;
+	private int numEdges;
+	private int lastCellId;
+
+	public AdjacencyGraph(int numRows, int numColumns) {
+		super();
+		this.numRows = numRows;
+		this.numColumns = numColumns;
+		offsets = new int[numRows * numColumns + 1];
+		neighbors = new int[numRows * numColumns * EDGES_PER_CELL];
+		numEdges = 0;
+		lastCellId = 0;
+	}
+
+	/**
+	 * Add an edge to the graph. Edges have to be added in increasing order of the
+	 * from cell, which is the order the board sets up its cells in.
+	 *
+	 * @param fromCellId cell that owns the adjacency
+	 * @param toCellId   adjacent cell
+	 */
+	public void addEdge(int fromCellId, int toCellId) {
+		if (fromCellId < lastCellId) {
+			throw new IllegalStateException("Edges must be added in cell order");
+		}
+		advanceTo(fromCellId);
+
+		// Adjacency is a set, ignore duplicate edges
+		for (int i = offsets[fromCellId]; i < numEdges; i++) {
+			if (neighbors[i] == toCellId) {
+				return;
+			}
+		}
+
+		if (numEdges == neighbors.length) {
+			neighbors = Arrays.copyOf(neighbors, neighbors.length * 2);
+		}
+		neighbors[numEdges++] = toCellId;
+	}
+
+	/**
+	 * Close the graph once all edges are added and trim the neighbor array
+	 */
+	public void finish() {
+		advanceTo(getNumCells());
+		neighbors = Arrays.copyOf(neighbors, numEdges);
+	}
+
+	// Close the offset ranges of every cell before cellId
+	private void advanceTo(int cellId) {
+		while (lastCellId < cellId) {
+			lastCellId++;
+			offsets[lastCellId] = numEdges;
+		}
+	}
+
+	/**
+	 * Checks whether toCellId is adjacent to fromCellId
+	 */
+	public boolean isAdjacent(int fromCellId, int toCellId) {
+		for (int i = offsets[fromCellId]; i < offsets[fromCellId + 1]; i++) {
+			if (neighbors[i] == toCellId) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * Getters
+	 */
+	public int getCellId(int row, int col) {
+		return row * numColumns + col;
+	}
+
+	public int getRow(int cellId) {
+		return cellId / numColumns;
+	}
+
+	public int getCol(int cellId) {
+		return cellId % numColumns;
+	}
+
+	public int getNumCells() {
+		return numRows * numColumns;
+	}
+
+	public int getNumRows() {
+		return numRows;
+	}
+
+	public int getNumColumns() {
+		return numColumns;
+	}
+
+	public int getDegree(int cellId) {
+		return offsets[cellId + 1] - offsets[cellId];
+	}
+
+	public int getNeighbor(int cellId, int index) {
+		return neighbors[offsets[cellId] + index];
+	}
+
+	/**
+	 * Offsets into the neighbor array, the neighbors of cell i are stored from
+	 * offsets[i] up to offsets[i + 1]. Exposed so hot loops can walk the arrays
+	 * directly, callers must not modify them.
+	 */
+	public int[] getOffsets() {
+		return offsets;
+	}
+
+	public int[] getNeighbors() {
+		return neighbors;
+	}
+}
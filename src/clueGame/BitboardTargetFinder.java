@@ -0,0 +1,195 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ * 
+ * Target search that moves a frontier of walkway cells one step at a time using
+ * long bitboards per row. Doors into rooms and secret passages are handled as a
+ * short list of exceptions. The frontier is every cell reachable by a walk of
+ * exactly that many steps, so unlike TargetFinder a cell can be reached by
+ * stepping back and forth.
+ */
+package clueGame;
+
+import java.util.ArrayList;
+
+public class BitboardTargetFinder {
+	private int numRows, numColumns, wordsPerRow;
+	private BoardCell[] cells;
+	private long[] walkways;
+	private long[] occupied;
+	// Frontier and next frontier, per thread so searches can run at once
+	private ThreadLocal<long[][]> frontiers;
+
+	// Sparse exceptions, parallel arrays of door cells and the room center they
+	// open into
+	private int[] doorIds;
+	private int[] doorCenterIds;
+
+	public BitboardTargetFinder(AdjacencyGraph graph, BoardCell[] cells) {
+		super();
+		this.cells = cells;
+		numRows = graph.getNumRows();
+		numColumns = graph.getNumColumns();
+		wordsPerRow = (numColumns + 63) / 64;
+		walkways = new long[numRows * wordsPerRow];
+		occupied = new long[numRows * wordsPerRow];
+		int numWords = numRows * wordsPerRow;
+		frontiers = ThreadLocal.withInitial(() -> new long[][] { new long[numWords], new long[numWords] });
+
+		ArrayList<Integer> doors = new ArrayList<>();
+		ArrayList<Integer> centers = new ArrayList<>();
+		for (int cellId = 0; cellId < cells.length; cellId++) {
+			BoardCell cell = cells[cellId];
+			if (cell.isWalkway()) {
+				setBit(walkways, cell.getRow(), cell.getCol(), true);
+			}
+			if (cell.isOccupied()) {
+				setBit(occupied, cell.getRow(), cell.getCol(), true);
+			}
+			// Same door to room center edges setupAdjListDoorway added to the graph
+			if (cell.isWalkway()) {
+				for (int i = 0; i < graph.getDegree(cellId); i++) {
+					int adjId = graph.getNeighbor(cellId, i);
+					if (cells[adjId].isRoomCenter()) {
+						doors.add(cellId);
+						centers.add(adjId);
+					}
+				}
+			}
+		}
+		doorIds = new int[doors.size()];
+		doorCenterIds = new int[doors.size()];
+		for (int i = 0; i < doors.size(); i++) {
+			doorIds[i] = doors.get(i);
+			doorCenterIds[i] = centers.get(i);
+		}
+	}
+
+	/**
+	 * The frontier only holds walkways, so a search has to start on a walkway or
+	 * a room center
+	 */
+	public boolean supports(BoardCell startCell) {
+		return startCell.isWalkway() || startCell.isRoomCenter();
+	}
+
+	/**
+	 * Keep the occupied bitboard in sync with the board
+	 */
+	public void setOccupied(BoardCell cell, boolean isOccupied) {
+		setBit(occupied, cell.getRow(), cell.getCol(), isOccupied);
+	}
+
+	/**
+	 * Find every cell at the end of a walk of pathLength steps, plus every room
+	 * entered on the way.
+	 * 
+	 * @param graph      Adjacency graph, used for the edges out of a room center
+	 * @param startId    id of the start cell
+	 * @param pathLength Number of steps
+	 * @param targets    Set that is cleared and filled with the targets
+	 */
+	public void findTargets(AdjacencyGraph graph, int startId, int pathLength, CellSet targets) {
+		long[][] buffers = frontiers.get();
+		long[] frontier = buffers[0];
+		long[] next = buffers[1];
+		targets.clear();
+		clear(frontier);
+		BoardCell startCell = cells[startId];
+
+		int stepsTaken = 0;
+		if (startCell.isRoomCenter()) {
+			// First step leaves the room through a door or a secret passage
+			for (int i = 0; i < graph.getDegree(startId); i++) {
+				int adjId = graph.getNeighbor(startId, i);
+				BoardCell adjCell = cells[adjId];
+				if (adjCell.isRoom()) {
+					targets.addId(adjId);
+				}
+				else if (!getBit(occupied, adjCell.getRow(), adjCell.getCol())) {
+					setBit(frontier, adjCell.getRow(), adjCell.getCol(), true);
+				}
+			}
+			stepsTaken = 1;
+		}
+		else {
+			setBit(frontier, startCell.getRow(), startCell.getCol(), true);
+		}
+
+		for (; stepsTaken < pathLength; stepsTaken++) {
+			addEnteredRooms(frontier, targets);
+			step(frontier, next);
+			long[] swap = frontier;
+			frontier = next;
+			next = swap;
+		}
+
+		// Walkways at the end of the walk
+		for (int row = 0; row < numRows; row++) {
+			for (int word = 0; word < wordsPerRow; word++) {
+				long bits = frontier[row * wordsPerRow + word];
+				while (bits != 0) {
+					int col = word * 64 + Long.numberOfTrailingZeros(bits);
+					targets.addId(row * numColumns + col);
+					bits &= bits - 1;
+				}
+			}
+		}
+
+		// The player does not move to the cell they are already on
+		targets.removeId(startId);
+	}
+
+	// Rooms end a walk, any door on the frontier can step into its room
+	private void addEnteredRooms(long[] frontier, CellSet targets) {
+		for (int i = 0; i < doorIds.length; i++) {
+			BoardCell door = cells[doorIds[i]];
+			if (getBit(frontier, door.getRow(), door.getCol())) {
+				targets.addId(doorCenterIds[i]);
+			}
+		}
+	}
+
+	// Move the frontier one step up, down, left and right onto free walkways
+	private void step(long[] frontier, long[] next) {
+		for (int row = 0; row < numRows; row++) {
+			int base = row * wordsPerRow;
+			for (int word = 0; word < wordsPerRow; word++) {
+				long current = frontier[base + word];
+				long moved = (current << 1) | (current >>> 1);
+				if (word > 0) {
+					moved |= frontier[base + word - 1] >>> 63;
+				}
+				if (word < wordsPerRow - 1) {
+					moved |= frontier[base + word + 1] << 63;
+				}
+				if (row > 0) {
+					moved |= frontier[base - wordsPerRow + word];
+				}
+				if (row < numRows - 1) {
+					moved |= frontier[base + wordsPerRow + word];
+				}
+				next[base + word] = moved & walkways[base + word] & ~occupied[base + word];
+			}
+		}
+	}
+
+	private void clear(long[] bits) {
+		for (int i = 0; i < bits.length; i++) {
+			bits[i] = 0;
+		}
+	}
+
+	private boolean getBit(long[] bits, int row, int col) {
+		return (bits[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+	}
+
+	private void setBit(long[] bits, int row, int col, boolean value) {
+		if (value) {
+			bits[row * wordsPerRow + (col >>> 6)] |= 1L << col;
+		}
+		else {
+			bits[row * wordsPerRow + (col >>> 6)] &= ~(1L << col);
+		}
+	}
+}
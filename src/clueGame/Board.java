@@ -2,33 +2,35 @@
  * @author Alexander Cieslewicz
  * @author Eric Dong
  * 
- * Board game board, contains cells configuration methods to load data from setup files
+ * Board game board, the Swing view of a GameEngine. Draws the cells and players,
+ * takes the human player's moves and shows the dialogs.
  */
 
 package clueGame;
 
 import java.awt.Color;
+import java.awt.Container;
+import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.GridLayout;
 import java.awt.Image;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Shape;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
-import java.io.File;
+import java.awt.event.MouseWheelEvent;
+import java.awt.event.MouseWheelListener;
+import java.awt.image.BufferedImage;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Random;
-import java.util.Scanner;
 import java.util.Set;
 
-import javax.imageio.ImageIO;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
 import javax.swing.JDialog;
@@ -36,47 +38,44 @@ import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
+import javax.swing.JViewport;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 
 @SuppressWarnings("serial")
-public class Board extends JPanel {
-	private static final String FILE_DELIMITER = ", ";
-	private static final char DOOR_DOWN = 'v';
-	private static final char DOOR_RIGHT = '>';
-	private static final char DOOR_LEFT = '<';
-	private static final char DOOR_UP = '^';
-	private static final char ROOM_LABEL = '#';
-	public static final char ROOM_CENTER = '*';
-	private static final String COMMENT_PREFIX = "//";
+public class Board extends JPanel implements Scrollable {
+	// Horizontal shift between players drawn in the same room
+	private static final int PLAYER_ROOM_OFFSET = 10;
+	// Cells smaller than this are drawn without borders, doors and vents
+	private static final int MIN_DETAIL_CELL_SIZE = 8;
+	// Largest board in pixels that is kept as a prerendered image
+	private static final long MAX_STATIC_LAYER_PIXELS = 4_000_000;
+	private static final double MIN_ZOOM = 1;
+	private static final double MAX_ZOOM = 8;
+	private static final double ZOOM_STEP = 1.25;
 	/*
 	 * Variables for Board instance
 	 */
-	private int numRows, numColumns;
-	private String layoutConfigFile, setupConfigFile;
-	private Map<Character, Room> roomMap;
-	private BoardCell[][] grid;
-	private Set<BoardCell> targets;
-	private Set<BoardCell> visited;
-
-	private Solution theAnswer;
-	private ArrayList<Player> players;
-	private ArrayList<Card> deck;
-	private Map<String, Card> weaponCards;
-	private Map<String, Card> playerCards;
-	private Map<String, Card> roomCards;
-
-	private int currentPlayer;
-	private int diceRoll;
+	private GameEngine engine;
+	// Board without targets or players, drawn once per panel size
+	private BufferedImage staticLayer;
+	// Cells covered by each room, x is the column and y the row
+	private Map<Room, Rectangle> roomBounds;
+	// Ids of the cells of each room
+	private Map<Room, int[]> roomCellIds;
+	// Cells drawn highlighted, room targets expanded to the whole room
+	private CellSet highlights;
+	// Cell selected by a click on each cell, the room center for room cells
+	private BoardCell[] clickCells;
+	private RoomLabelRenderer labelRenderer;
+	private double zoom = MIN_ZOOM;
+	private volatile TargetResult targets;
+
 	public boolean isPlayerFinished;
 
 	private GameControlPanel gameControlPanel;
 
-	/*
-	 * Variables for game control
-	 */
-
-	Solution currentSuggestion;
-	Card currentDisprove;
-
 	/*
 	 * variable and methods used for singleton pattern
 	 */
@@ -85,10 +84,10 @@ public class Board extends JPanel {
 	// constructor is private to ensure only one can be created
 	private Board() {
 		super();
-		targets = new HashSet<>();
-		currentPlayer = 0;
-		diceRoll = rollDice();
+		engine = new GameEngine();
+		targets = TargetResult.empty(new BoardCell[0], 0);
 		addMouseListener(new boardMouseListener());
+		addMouseWheelListener(new ZoomListener());
 	}
 
 	// add the mouse listener class to use in board
@@ -108,55 +107,26 @@ public class Board extends JPanel {
 					isPlayerFinished = true;
 					return;
 				}
-				// Iterate through cells to find which one contains the click
-				for (int row = 0; row < numRows; row++) {
-					for (int col = 0; col < numColumns; col++) {
-						BoardCell currentCell = getCell(row, col);
-						if (currentCell.containsClick(e.getY(), e.getX(), getHeight() / numRows,
-								getWidth() / numColumns)) {
-							// If cell is in a room get the center cell
-							if (currentCell.isRoom()) {
-								currentCell = getRoom(currentCell).getCenterCell();
-							}
-							// UPdate the cells to reflect player move
-							if (targets.contains(currentCell)) {
-								getCell(getCurrentPlayer().getRow(), getCurrentPlayer().getColumn()).setOccupied(false);
-								if (currentCell.isRoom()) {
-									Room currentRoom = getRoom(currentCell);
-									getCurrentPlayer().updatePosition(currentRoom.getCenterCell());
-								}
-								else {
-									getCurrentPlayer().updatePosition(currentCell);
-								}
-								currentCell.setOccupied(true);
-
-								getCurrentPlayer()
-										.setRoom(getRoom(getCurrentPlayer().getRow(), getCurrentPlayer().getColumn()));
-								targets = new HashSet<>();
-								repaint();
-
-								// Generate suggestion box if moved to room
-								if (currentCell.isRoom()) {
-									JDialog suggestionBox = new SuggestionBox();
-								}
-
-								// Move other players if accussed in suggestion
-								if (currentSuggestion != null) {
-									for (Player player : players) {
-										if (player.getName().equals(currentSuggestion.getPerson().getCardName())) {
-											getCell(player.getRow(), player.getColumn()).setOccupied(false);
-											player.setMovedSuggestion(true);
-											player.updatePosition(currentCell);
-											player.setRoom(getRoom(player.getRow(), player.getColumn()));
-										}
-									}
-								}
-								repaint();
-								isPlayerFinished = true;
-								return;
-							}
-						}
+				// Room cells resolve to their center
+				BoardCell currentCell = getClickedCell(e.getX(), e.getY());
+				if (currentCell != null && targets.contains(currentCell)) {
+					// UPdate the cells to reflect player move
+					movePlayer(getCurrentPlayer(), currentCell);
+					setTargets(getTargetQuery().empty());
+
+					// Generate suggestion box if moved to room
+					if (currentCell.isRoom()) {
+						JDialog suggestionBox = new SuggestionBox();
+					}
+
+					// Move other players if accussed in suggestion
+					if (getCurrentSuggestion() != null) {
+						repaintPlayers();
+						engine.moveSuggestedPlayer(getCurrentSuggestion(), currentCell);
+						repaintPlayers();
 					}
+					isPlayerFinished = true;
+					return;
 				}
 				JOptionPane.showMessageDialog(theInstance, "Invalid target.");
 			}
@@ -182,68 +152,295 @@ public class Board extends JPanel {
 	 */
 	public void paintComponent(Graphics g) {
 		super.paintComponent(g);
-		int cellWidth = getWidth() / numColumns;
-		int cellHeight = getHeight() / numRows;
-
-		for (int row = 0; row < numRows; row++) {
-			for (int col = 0; col < numColumns; col++) {
-				if ((targets.contains(getCell(row, col))) && (players.get(currentPlayer).isHuman())) {
-					getCell(row, col).draw(g, cellWidth, cellHeight, row, col, Color.BLUE);
-				}
-				else if (targets.contains(getRoom(getCell(row, col)).getCenterCell())
-						&& (players.get(currentPlayer).isHuman())) {
-					getCell(row, col).draw(g, cellWidth, cellHeight, row, col, Color.BLUE);
-				}
-				else {
-					getCell(row, col).draw(g, cellWidth, cellHeight, row, col, null);
-				}
+		int cellWidth = getWidth() / getNumColumns();
+		int cellHeight = getHeight() / getNumRows();
+		if (cellWidth <= 0 || cellHeight <= 0) {
+			return;
+		}
+
+		// Only the cells inside the clip need to be drawn
+		Rectangle clip = g.getClipBounds();
+		if (clip == null) {
+			clip = new Rectangle(0, 0, getWidth(), getHeight());
+		}
+		int firstRow = Math.max(0, clip.y / cellHeight);
+		int lastRow = Math.min(getNumRows() - 1, (clip.y + clip.height - 1) / cellHeight);
+		int firstCol = Math.max(0, clip.x / cellWidth);
+		int lastCol = Math.min(getNumColumns() - 1, (clip.x + clip.width - 1) / cellWidth);
+		boolean detailed = cellWidth >= MIN_DETAIL_CELL_SIZE && cellHeight >= MIN_DETAIL_CELL_SIZE;
+
+		if ((long) getWidth() * getHeight() <= MAX_STATIC_LAYER_PIXELS) {
+			// Layout only changes on load, only the size needs checking
+			if (staticLayer == null || staticLayer.getWidth() != getWidth()
+					|| staticLayer.getHeight() != getHeight()) {
+				staticLayer = renderStaticLayer(cellWidth, cellHeight, detailed);
 			}
+			g.drawImage(staticLayer, 0, 0, null);
 		}
-
-		// Handle importing image from jar or files
-		Image image = null;
-		if (ClueGame.JAR) {
-			try {
-				InputStream is = getClass().getResourceAsStream("cafeteria.png");
-				if (is == null) {
-					throw new FileNotFoundException("Could not find layout file");
+		else {
+			// Zoomed in too far to keep the whole board in memory, draw what is visible
+			staticLayer = null;
+			drawStaticCells(g, cellWidth, cellHeight, firstRow, lastRow, firstCol, lastCol, detailed);
+		}
+
+		// Highlight the targets of the human player, whole rooms for room targets
+		if (getCurrentPlayer().isHuman() && targets.size() > 0) {
+			for (int row = firstRow; row <= lastRow; row++) {
+				for (int col = firstCol; col <= lastCol; col++) {
+					if (highlights.containsId(row * getNumColumns() + col)) {
+						// Walkway borders reach one pixel past the cell, keep them off the
+						// cells around it like when the board is drawn in order
+						Shape clipShape = g.getClip();
+						g.clipRect(col * cellWidth, row * cellHeight, cellWidth, cellHeight);
+						getCell(row, col).draw(g, cellWidth, cellHeight, row, col, Color.BLUE, detailed);
+						g.setClip(clipShape);
+					}
 				}
-				image = ImageIO.read(is);
-			}
-			catch (IOException e) {
-				e.printStackTrace();
 			}
+			// Labels can run over highlighted cells of other rooms, redraw them all
+			labelRenderer.draw(g, cellWidth, cellHeight);
 		}
-		else {
-			try {
-				image = ImageIO.read(new File("resources/sprites/cafeteria.png"));
+
+		// Offsets are handed out in player order, so every player takes one even
+		// when it is outside the clip
+		for (Player player : getPlayers()) {
+			int offset = 0;
+			if (player.getCurrentRoom() != null && player.getCurrentRoom().isRoom()) {
+				offset = player.getCurrentRoom().getCurrentOffset() * PLAYER_ROOM_OFFSET;
 			}
-			catch (IOException e) {
-				e.printStackTrace();
+			if (clip.intersects(player.getColumn() * cellWidth + offset, player.getRow() * cellHeight, cellWidth,
+					cellHeight)) {
+				player.draw(g, cellWidth, cellHeight, offset);
 			}
 		}
 
-		if (image != null) {
-			g.drawImage(image, 8 * cellWidth, 8 * cellHeight, cellWidth * 7, cellHeight * 7, null);
+		for (Room room : getRooms()) {
+			room.resetCurrentOffset();
 		}
 
-		for (Room room : roomMap.values()) {
-			room.draw(g, cellWidth, cellHeight);
+	}
+
+	/**
+	 * Find the cell a click selects by dividing by the cell size. A click on any
+	 * cell of a room selects the room center.
+	 * 
+	 * @param x Click position on the board
+	 * @param y Click position on the board
+	 * @return the cell, or null if the click is outside the cells
+	 */
+	public BoardCell getClickedCell(int x, int y) {
+		int cellWidth = getWidth() / getNumColumns();
+		int cellHeight = getHeight() / getNumRows();
+		if (cellWidth <= 0 || cellHeight <= 0 || x < 0 || y < 0) {
+			return null;
+		}
+		int row = y / cellHeight;
+		int col = x / cellWidth;
+		if (row >= getNumRows() || col >= getNumColumns()) {
+			return null;
 		}
+		return clickCells[row * getNumColumns() + col];
+	}
 
-		for (Player player : players) {
-			if (player.getCurrentRoom() != null && player.getCurrentRoom().isRoom()) {
-				player.draw(g, cellWidth, cellHeight, player.getCurrentRoom().getCurrentOffset() * 10);
+	/**
+	 * Replace the targets and repaint the cells whose highlight changed
+	 */
+	private void setTargets(TargetResult newTargets) {
+		TargetResult oldTargets = targets;
+		targets = newTargets;
+
+		highlights.clear();
+		for (int cellId : newTargets.getTargetIds()) {
+			int[] roomCells = getCell(cellId).isRoomCenter() ? roomCellIds.get(getRoom(getCell(cellId))) : null;
+			if (roomCells == null) {
+				highlights.addId(cellId);
 			}
 			else {
-				player.draw(g, cellWidth, cellHeight, 0);
+				for (int roomCellId : roomCells) {
+					highlights.addId(roomCellId);
+				}
 			}
 		}
 
-		for (Room room : roomMap.values()) {
-			room.resetCurrentOffset();
+		repaintTargets(oldTargets);
+		repaintTargets(newTargets);
+	}
+
+	private void repaintTargets(TargetResult cells) {
+		for (BoardCell cell : cells) {
+			if (cell.isRoomCenter()) {
+				repaintCells(roomBounds.get(getRoom(cell)));
+			}
+			else {
+				repaintCells(new Rectangle(cell.getCol(), cell.getRow(), 1, 1));
+			}
+		}
+	}
+
+	/**
+	 * Repaint the cell a player stands on. Players in a room are drawn side by
+	 * side from the center, so the whole row of them is repainted.
+	 */
+	private void repaintPlayerCell(int row, int col) {
+		repaintCells(new Rectangle(col, row, 1, 1));
+		BoardCell cell = getCell(row, col);
+		if (cell.isRoomCenter()) {
+			Rectangle bounds = toPixels(new Rectangle(col, row, 1, 1));
+			bounds.width += getPlayers().size() * PLAYER_ROOM_OFFSET;
+			repaint(bounds);
+		}
+	}
+
+	/**
+	 * Repaint a block of cells
+	 * 
+	 * @param cells Bounds in cells, x is the column and y the row
+	 */
+	private void repaintCells(Rectangle cells) {
+		if (cells != null) {
+			repaint(toPixels(cells));
+		}
+	}
+
+	// Convert bounds in cells to bounds in pixels at the current size
+	private Rectangle toPixels(Rectangle cells) {
+		int cellWidth = getWidth() / getNumColumns();
+		int cellHeight = getHeight() / getNumRows();
+		return new Rectangle(cells.x * cellWidth, cells.y * cellHeight, cells.width * cellWidth,
+				cells.height * cellHeight);
+	}
+
+	/**
+	 * Draw everything that does not change during a game: cells, doors, vents, the
+	 * cafeteria art and room labels
+	 * 
+	 * @return image the size of the panel
+	 */
+	private BufferedImage renderStaticLayer(int cellWidth, int cellHeight, boolean detailed) {
+		BufferedImage layer = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics g = layer.createGraphics();
+		g.setColor(getBackground());
+		g.fillRect(0, 0, getWidth(), getHeight());
+		drawStaticCells(g, cellWidth, cellHeight, 0, getNumRows() - 1, 0, getNumColumns() - 1, detailed);
+		g.dispose();
+		return layer;
+	}
+
+	/**
+	 * Draw the static part of a range of cells, plus the art and labels that
+	 * overlap it
+	 */
+	private void drawStaticCells(Graphics g, int cellWidth, int cellHeight, int firstRow, int lastRow, int firstCol,
+			int lastCol, boolean detailed) {
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int col = firstCol; col <= lastCol; col++) {
+				getCell(row, col).draw(g, cellWidth, cellHeight, row, col, null, detailed);
+			}
+		}
+
+		Image image = SpriteCache.getScaled(SpriteCache.CAFETERIA, cellWidth * 7, cellHeight * 7);
+		if (image != null) {
+			g.drawImage(image, 8 * cellWidth, 8 * cellHeight, null);
+		}
+
+		// Labels can run past their room, there are few enough to always draw
+		labelRenderer.draw(g, cellWidth, cellHeight);
+	}
+
+	/*
+	 * Scrolling and zoom, the board fills the viewport at zoom 1
+	 */
+	@Override
+	public Dimension getPreferredSize() {
+		Container parent = getParent();
+		if (zoom > 1 && parent instanceof JViewport) {
+			return new Dimension((int) (parent.getWidth() * zoom), (int) (parent.getHeight() * zoom));
+		}
+		return super.getPreferredSize();
+	}
+
+	@Override
+	public Dimension getPreferredScrollableViewportSize() {
+		return getPreferredSize();
+	}
+
+	@Override
+	public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+		if (orientation == SwingConstants.HORIZONTAL) {
+			return Math.max(1, getWidth() / Math.max(1, getNumColumns()));
+		}
+		return Math.max(1, getHeight() / Math.max(1, getNumRows()));
+	}
+
+	@Override
+	public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+		if (orientation == SwingConstants.HORIZONTAL) {
+			return visibleRect.width;
+		}
+		return visibleRect.height;
+	}
+
+	@Override
+	public boolean getScrollableTracksViewportWidth() {
+		return zoom <= 1;
+	}
+
+	@Override
+	public boolean getScrollableTracksViewportHeight() {
+		return zoom <= 1;
+	}
+
+	/**
+	 * Zoom the board keeping one point of it in place on screen
+	 * 
+	 * @param zoom   1 fits the board to the viewport, larger zooms in
+	 * @param anchor Point on the board that stays put, in board coordinates
+	 */
+	public void setZoom(double zoom, Point anchor) {
+		zoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+		if (zoom == this.zoom) {
+			return;
+		}
+		double scale = zoom / this.zoom;
+		this.zoom = zoom;
+		Container parent = getParent();
+		if (parent instanceof JViewport) {
+			JViewport viewport = (JViewport) parent;
+			Point viewPosition = viewport.getViewPosition();
+			int anchorX = anchor.x - viewPosition.x;
+			int anchorY = anchor.y - viewPosition.y;
+			Dimension size = getPreferredSize();
+			if (zoom <= 1) {
+				size = viewport.getExtentSize();
+			}
+			setSize(size);
+			revalidate();
+			viewport.setViewPosition(new Point(
+					Math.max(0, Math.min(size.width - viewport.getWidth(), (int) (anchor.x * scale) - anchorX)),
+					Math.max(0, Math.min(size.height - viewport.getHeight(), (int) (anchor.y * scale) - anchorY))));
 		}
+		repaint();
+	}
+
+	public double getZoom() {
+		return zoom;
+	}
+
+	public RoomLabelRenderer getLabelRenderer() {
+		return labelRenderer;
+	}
 
+	// Control and the wheel zooms, the plain wheel is passed on to scroll
+	private class ZoomListener implements MouseWheelListener {
+		@Override
+		public void mouseWheelMoved(MouseWheelEvent e) {
+			if (e.isControlDown()) {
+				setZoom(zoom * Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation()), e.getPoint());
+			}
+			else if (getParent() != null) {
+				getParent().dispatchEvent(SwingUtilities.convertMouseEvent(Board.this, e, getParent()));
+			}
+		}
 	}
 
 	@SuppressWarnings("serial")
@@ -263,13 +460,13 @@ public class Board extends JPanel {
 			setTitle("Make Accusation");
 			setLayout(new GridLayout(4, 2));
 			add(new JLabel("Room"));
-			roomCombo = new JComboBox(roomCards.values().toArray());
+			roomCombo = new JComboBox(engine.getRoomCards().values().toArray());
 			add(roomCombo);
 			add(new JLabel("Person"));
-			personCombo = new JComboBox(playerCards.values().toArray());
+			personCombo = new JComboBox(engine.getPlayerCards().values().toArray());
 			add(personCombo);
 			add(new JLabel("Weapon"));
-			weaponCombo = new JComboBox(weaponCards.values().toArray());
+			weaponCombo = new JComboBox(engine.getWeaponCards().values().toArray());
 			add(weaponCombo);
 
 			setupButtons();
@@ -294,16 +491,17 @@ public class Board extends JPanel {
 				public void actionPerformed(ActionEvent e) {
 					if (e.getSource() == submit) {
 						Solution accusation = new Solution();
-						accusation.room = roomCards.get(roomCombo.getSelectedItem().toString());
-						accusation.weapon = weaponCards.get(weaponCombo.getSelectedItem().toString());
-						accusation.person = playerCards.get(personCombo.getSelectedItem().toString());
-						if (accusation.equals(theAnswer)) {
+						accusation.room = engine.getRoomCards().get(roomCombo.getSelectedItem().toString());
+						accusation.weapon = engine.getWeaponCards().get(weaponCombo.getSelectedItem().toString());
+						accusation.person = engine.getPlayerCards().get(personCombo.getSelectedItem().toString());
+						GameResult result = engine.makeAccusation(getCurrentPlayer(), accusation);
+						if (result.isCorrect()) {
 							JOptionPane.showMessageDialog(theInstance,
-									"You have won the game. The Solution was " + theAnswer.toString());
+									"You have won the game. The Solution was " + getTheAnswer().toString());
 						}
 						else {
 							JOptionPane.showMessageDialog(theInstance,
-									"You have lost the game. The Solution was " + theAnswer.toString());
+									"You have lost the game. The Solution was " + getTheAnswer().toString());
 						}
 						setVisible(false);
 						System.exit(0);
@@ -353,10 +551,10 @@ public class Board extends JPanel {
 			roomName.setEditable(false);
 			add(roomName);
 			add(new JLabel("Person"));
-			personCombo = new JComboBox(playerCards.values().toArray());
+			personCombo = new JComboBox(engine.getPlayerCards().values().toArray());
 			add(personCombo);
 			add(new JLabel("Weapon"));
-			weaponCombo = new JComboBox(weaponCards.values().toArray());
+			weaponCombo = new JComboBox(engine.getWeaponCards().values().toArray());
 			add(weaponCombo);
 
 			setupButtons();
@@ -377,15 +575,9 @@ public class Board extends JPanel {
 				 */
 				public void actionPerformed(ActionEvent e) {
 					if (e.getSource() == submit) {
-						currentSuggestion = new Solution();
-						currentSuggestion.room = roomCards.get(getCurrentPlayer().getCurrentRoom().getName());
-						currentSuggestion.weapon = weaponCards.get(weaponCombo.getSelectedItem().toString());
-						currentSuggestion.person = playerCards.get(personCombo.getSelectedItem().toString());
-						currentDisprove = handleSuggestion(getCurrentPlayer(), currentSuggestion.getPerson(),
-								currentSuggestion.getRoom(), currentSuggestion.getWeapon());
-						if (currentDisprove != null) {
-							getCurrentPlayer().updateSeen(currentDisprove);
-						}
+						engine.makeSuggestion(getCurrentPlayer(),
+								engine.getPlayerCards().get(personCombo.getSelectedItem().toString()),
+								engine.getWeaponCards().get(weaponCombo.getSelectedItem().toString()));
 						gameControlPanel.updateSuggestions();
 					}
 					setVisible(false);
@@ -400,78 +592,59 @@ public class Board extends JPanel {
 
 	// Updates current player and draws the targets if Human Player
 	public void updateBoardState() {
-		// Reset the suggestions for new player
-		currentSuggestion = null;
-		currentDisprove = null;
-
-		// Calculate new targets and update player moved due to suggestion state
-		calcTargets(getCell(players.get(currentPlayer).row, players.get(currentPlayer).column), diceRoll);
-		Player movePlayer = getCurrentPlayer();
-		if (movePlayer.isMovedSuggestion()) {
-			movePlayer.setMovedSuggestion(false);
-			targets.add(getCell(movePlayer.getRow(), movePlayer.getColumn()));
-		}
-
-		if (movePlayer.isHuman() && targets.size() == 0) {
+		checkComputerAccusation();
+		applyTurn(computeTurn());
+	}
 
+	/**
+	 * End the game if the current player is a computer with an accusation ready.
+	 * Shows a dialog, so it has to run on the event dispatch thread.
+	 */
+	public void checkComputerAccusation() {
+		GameResult result = engine.checkComputerAccusation();
+		if (result == null) {
+			return;
 		}
+		if (result.isCorrect()) {
+			JOptionPane.showMessageDialog(theInstance,
+					result.getAccuser().getName() + " has won the game. The Solution was " + getTheAnswer().toString());
+		}
+		else {
+			JOptionPane.showMessageDialog(theInstance,
+					result.getAccuser().getName() + " has lost the game. The Solution was " + getTheAnswer().toString());
+		}
+		System.exit(0);
+	}
 
-		// Hande suggestions and accusations for computer players
-		if (!movePlayer.isHuman()) {
-			// Complete accusation if possible
-			if (movePlayer.getAccusation() != null) {
-				if (movePlayer.getAccusation().equals(theAnswer)) {
-					JOptionPane.showMessageDialog(theInstance,
-							movePlayer.getName() + " has won the game. The Solution was " + theAnswer.toString());
-				}
-				else {
-					JOptionPane.showMessageDialog(theInstance,
-							movePlayer.getName() + " has lost the game. The Solution was " + theAnswer.toString());
-				}
-				System.exit(0);
-			}
-
-			// Move the computer player and update board cells
-			getCell(movePlayer.getRow(), movePlayer.getColumn()).setOccupied(false);
-			if (targets.size() == 0) {
-				return;
-			}
-			BoardCell target = movePlayer.selectTarget(getTargets());
-			Room previousRoom = movePlayer.getCurrentRoom();
-			movePlayer.updatePosition(target);
-			target.setOccupied(true);
-			movePlayer.setRoom(getRoom(movePlayer.getRow(), movePlayer.getColumn()));
-
-			// Handle computer suggestions if computer makes it into room
-			if (movePlayer.getCurrentRoom().isRoom()) {
-				currentSuggestion = movePlayer.createSuggestion();
-				for (Player player : players) {
-					if (player.getName().equals(currentSuggestion.getPerson().getCardName())) {
-						getCell(player.getRow(), player.getColumn()).setOccupied(false);
-						player.updatePosition(target);
-						player.setRoom(getRoom(movePlayer.getRow(), movePlayer.getColumn()));
-						player.setMovedSuggestion(true);
-						if (player.isHuman()) {
-							System.out.println("Why");
-						}
-					}
-				}
-				currentDisprove = handleSuggestion(movePlayer, currentSuggestion.getPerson(),
-						currentSuggestion.getRoom(), currentSuggestion.getWeapon());
-				if (currentDisprove != null) {
-					movePlayer.updateSeen(currentDisprove);
-				}
-				else {
-					if (!movePlayer.getHand().contains(currentSuggestion.getRoom())) {
-						movePlayer.setAccusation(currentSuggestion);
-					}
-				}
-
-			}
+	/**
+	 * Work out the current player's turn without changing the board. Can run off
+	 * the event dispatch thread as long as nothing else changes the board until
+	 * the result is applied.
+	 * 
+	 * @return the turn, pass to applyTurn
+	 */
+	public TurnResult computeTurn() {
+		return engine.computeTurn();
+	}
 
-		}
+	/**
+	 * Apply a turn from computeTurn to the board and show it, on the event
+	 * dispatch thread
+	 * 
+	 * @param turn
+	 */
+	public void applyTurn(TurnResult turn) {
+		repaintPlayers();
+		engine.applyTurn(turn);
+		setTargets(turn.getTargets());
+		repaintPlayers();
+	}
 
-		this.repaint();
+	/**
+	 * Pass the turn to the next player and roll for them
+	 */
+	public void nextTurn() {
+		engine.nextTurn();
 	}
 
 	// this method returns the only Board
@@ -481,9 +654,7 @@ public class Board extends JPanel {
 
 	// roll the dice
 	public int rollDice() {
-		Random rnd = new Random();
-		diceRoll = rnd.nextInt(6) + 1;
-		return diceRoll;
+		return engine.rollDice();
 	}
 
 	/*
@@ -492,7 +663,6 @@ public class Board extends JPanel {
 	public void initialize() {
 		try {
 			loadConfigFiles();
-			// calcTargets(getCell(players.get(0).row, players.get(0).column), 5);
 		}
 		catch (FileNotFoundException | BadConfigFormatException e) {
 			System.out.println(e.getMessage());
@@ -512,189 +682,44 @@ public class Board extends JPanel {
 	 * Loads the game config setup and builds the game board legend
 	 */
 	public void loadSetupConfig() throws FileNotFoundException, BadConfigFormatException {
-		roomMap = new HashMap<>();
-		players = new ArrayList<>();
-		deck = new ArrayList<>();
-		weaponCards = new HashMap<>();
-		playerCards = new HashMap<>();
-		roomCards = new HashMap<>();
-		Scanner setupConfigIn;
-		if (ClueGame.JAR) {
-			InputStream is = getClass().getResourceAsStream(setupConfigFile);
-			if (is == null) {
-				throw new FileNotFoundException("Could not find Setup");
-			}
-			setupConfigIn = new Scanner(is);
-		}
-		else {
-			FileReader reader = new FileReader(setupConfigFile);
-			setupConfigIn = new Scanner(reader);
-		}
-		// InputStream is = this.getClass().getResourceAsStream(setupConfigFile);
-		while (setupConfigIn.hasNextLine()) {
-			String line = setupConfigIn.nextLine();
-			if (!line.startsWith(COMMENT_PREFIX)) {
-				String gameObjectLabel[] = line.split(FILE_DELIMITER);
-
-				String name = gameObjectLabel[1];
-				if (gameObjectLabel[0].equals("Room")) {
-					char roomInitial = gameObjectLabel[2].charAt(0);
-					roomMap.put(roomInitial, new Room(name));
-					roomMap.get(roomInitial).setRoom(true);
-					Card card = new Card(name, CardType.ROOM);
-					deck.add(card);
-					roomCards.put(name, card);
-				}
-				else if (gameObjectLabel[0].equals("Space")) {
-					char roomInitial = gameObjectLabel[2].charAt(0);
-					roomMap.put(roomInitial, new Room(name));
-					roomMap.get(roomInitial).setRoom(false);
-				}
-				else if (gameObjectLabel[0].equals("Player")) {
-					Player temp;
-					String color = gameObjectLabel[2];
-					int row = Integer.parseInt(gameObjectLabel[4]);
-					int column = Integer.parseInt(gameObjectLabel[5]);
-					if (gameObjectLabel[3].equals("Human")) {
-						temp = new HumanPlayer(name, color, row, column);
-						players.add(temp);
-					}
-					if (gameObjectLabel[3].equals("Computer")) {
-						temp = new ComputerPlayer(name, color, row, column);
-						players.add(temp);
-
-					}
-					Card card = new Card(name, CardType.PERSON);
-					deck.add(card);
-					playerCards.put(name, card);
-				}
-				else if (gameObjectLabel[0].equals("Weapon")) {
-					Card card = new Card(name, CardType.WEAPON);
-					deck.add(card);
-					weaponCards.put(name, card);
-				}
-				else {
-					throw new BadConfigFormatException();
-				}
-			}
-		}
+		engine.loadSetupConfig();
 	}
 
 	/*
-	 * Check for valid adjacent cells and add to cells adjList
+	 * Loads the layout into the engine and sets up drawing it
 	 */
-	private void setupAdjList(BoardCell cell, int row, int col) {
-		if (cell.isDoorway()) {
-			setupAdjListDoorway(cell, row, col);
-		}
-		else if (cell.isWalkway()) {
-			setupAdjListWalkWay(cell, row, col);
-		}
-		else if (cell.isRoomCenter()) {
-			setupAdjListRoomCenter(cell);
-		}
-		else {
-			setupAdjListDefault(cell, row, col);
-		}
+	public void loadLayoutConfig() throws FileNotFoundException, BadConfigFormatException {
+		engine.loadLayoutConfig();
+		initializeView();
 	}
 
 	/*
-	 * Default catch case for cells that are not in handled directly
-	 */
-	private void setupAdjListDefault(BoardCell cell, int row, int col) {
-		if ((row - 1) >= 0) {
-			cell.addAdj(getCell(row - 1, col));
-		}
-		if ((row + 1) < numRows) {
-			cell.addAdj(getCell(row + 1, col));
-		}
-		if ((col - 1) >= 0) {
-			cell.addAdj(getCell(row, col - 1));
-		}
-		if ((col + 1) < numColumns) {
-			cell.addAdj(getCell(row, col + 1));
-		}
-	}
-
-	/**
-	 * Setup adjList for room Centers
-	 * 
-	 * @param The cell belonging to the center of the room
-	 * 
-	 *            Adds the following adjacencies to the roomCenter cell: Doors that
-	 *            grant access to the room, Room centers that are connected via
-	 *            secret passage
+	 * Everything the view keeps about the layout, rebuilt when a layout is loaded
 	 */
-	private void setupAdjListRoomCenter(BoardCell roomCenterCell) {
-		// Get entrances from Room object and add to adjList
-		for (BoardCell door : getRoom(roomCenterCell).getDoors()) {
-			roomCenterCell.addAdj(door);
+	private void initializeView() {
+		BoardCell[] cellsById = getCells();
+		targets = getTargetQuery().empty();
+		staticLayer = null;
+		roomBounds = new HashMap<>();
+		Map<Room, CellSet> roomCells = new HashMap<>();
+		for (BoardCell cell : cellsById) {
+			if (cell.isRoom()) {
+				Rectangle cellBounds = new Rectangle(cell.getCol(), cell.getRow(), 1, 1);
+				roomBounds.merge(getRoom(cell), cellBounds, Rectangle::union);
+				roomCells.computeIfAbsent(getRoom(cell), room -> new CellSet(cellsById, getNumColumns())).add(cell);
+			}
 		}
-
-		// Get the room center that is reachable via secret passage
-		if (getRoom(roomCenterCell).hasSecretPassage()) {
-			BoardCell secretPassage = getRoom(roomCenterCell).getSecretPassageCell();
-			char connectedRoomInitial = secretPassage.getSecretPassage();
-			roomCenterCell.addAdj(getRoom(connectedRoomInitial).getCenterCell());
+		roomCellIds = new HashMap<>();
+		for (Map.Entry<Room, CellSet> entry : roomCells.entrySet()) {
+			roomCellIds.put(entry.getKey(), entry.getValue().toIdArray());
 		}
-	}
+		highlights = new CellSet(cellsById, getNumColumns());
+		labelRenderer = new RoomLabelRenderer(getRooms(), roomBounds);
 
-	/**
-	 * Setup adjList for door Cells
-	 * 
-	 * @param doorCell The cell belonging to the doorway
-	 * @param row      doorCell's row in the board
-	 * @param col      doorCell's column in the board
-	 * 
-	 *                 Adds the following cells to the Doors adjList: adjacent
-	 *                 walkways, and connected room center cells
-	 */
-	private void setupAdjListDoorway(BoardCell doorCell, int row, int col) {
-		// A door is a special walkway, get adjacent walkways and add to list
-		setupAdjListWalkWay(doorCell, row, col);
-
-		// Handle room centers
-		switch (doorCell.getDoorDirection()) {
-		case UP:
-			doorCell.addAdj(getRoom(getCell(row - 1, col)).getCenterCell());
-			break;
-		case DOWN:
-			doorCell.addAdj(getRoom(getCell(row + 1, col)).getCenterCell());
-			break;
-		case LEFT:
-			doorCell.addAdj(getRoom(getCell(row, col - 1)).getCenterCell());
-			break;
-		case RIGHT:
-			doorCell.addAdj(getRoom(getCell(row, col + 1)).getCenterCell());
-			break;
-		default:
-			break;
-		}
-	}
-
-	/**
-	 * Setup adjList for door Cells
-	 * 
-	 * walkwayCell The cell belonging to the doorway
-	 * 
-	 * @param row           walkwayCell's row in the board
-	 * @param walkwayCell's column in the board
-	 * 
-	 *                      Adds the following cells to the walkway: adjacent
-	 *                      walkways
-	 */
-	private void setupAdjListWalkWay(BoardCell walkwayCell, int row, int col) {
-		if ((row - 1) >= 0 && getCell(row - 1, col).isWalkway()) {
-			walkwayCell.addAdj(getCell(row - 1, col));
-		}
-		if ((row + 1) < numRows && getCell(row + 1, col).isWalkway()) {
-			walkwayCell.addAdj(getCell(row + 1, col));
-		}
-		if ((col - 1) >= 0 && getCell(row, col - 1).isWalkway()) {
-			walkwayCell.addAdj(getCell(row, col - 1));
-		}
-		if ((col + 1) < numColumns && getCell(row, col + 1).isWalkway()) {
-			walkwayCell.addAdj(getCell(row, col + 1));
+		clickCells = new BoardCell[cellsById.length];
+		for (int cellId = 0; cellId < cellsById.length; cellId++) {
+			BoardCell cell = cellsById[cellId];
+			clickCells[cellId] = cell.isRoom() ? getRoom(cell).getCenterCell() : cell;
 		}
 	}
 
@@ -705,321 +730,220 @@ public class Board extends JPanel {
 	 * @param pathLength Max travel distance
 	 */
 	public void calcTargets(BoardCell startCell, int pathLength) {
-		targets = new HashSet<>();
-		visited = new HashSet<>();
-		visited.add(startCell);
-		findAllTargets(startCell, pathLength);
+		setTargets(engine.calcTargets(startCell, pathLength));
 	}
 
 	/**
-	 * Determine whether cell is a target or intermediate cell
-	 * 
-	 * @param thisCell
-	 * @param numSteps
+	 * Determine reachable cells for every roll up to maxPathLength in the
+	 * current target mode, the same cells calcTargets gives for each roll
 	 * 
-	 *                 Checks reachable cells. If cell isRoom or unoccupied add to
-	 *                 list else check others
+	 * @param startCell
+	 * @param maxPathLength Largest roll to consider
+	 * @return Targets indexed by roll, index 0 is empty
 	 */
-	private void findAllTargets(BoardCell thisCell, int numSteps) {
-		for (BoardCell adjCell : thisCell.getAdjList()) {
-			if (!visited.contains(adjCell)) {
-				visited.add(adjCell);
-				if ((numSteps == 1 && !adjCell.isOccupied()) || adjCell.isRoom()) {
-					targets.add(adjCell);
-				}
-				else if (!adjCell.isRoom() && !adjCell.isOccupied()) {
-					findAllTargets(adjCell, numSteps - 1);
-				}
-				visited.remove(adjCell);
-			}
-		}
-
+	public TargetResult[] calcTargetsAllRolls(BoardCell startCell, int maxPathLength) {
+		return engine.calcTargetsAllRolls(startCell, maxPathLength);
 	}
 
 	/**
-	 * Checks if an array of config cells has a room that is not in the legend
+	 * Move a player to a cell and update the occupancy and the player's room
 	 * 
-	 * @row The row of config cell strings to check
+	 * @param player
+	 * @param target Cell the player ends up on, room centers for rooms
 	 */
-	private Boolean areRoomsInLegend(String[] rowOfCells) {
-		for (String cell : rowOfCells) {
-			if (!roomMap.containsKey(cell.charAt(0))) {
-				return false;
-			}
-		}
-		return true;
+	public void movePlayer(Player player, BoardCell target) {
+		repaintPlayerCell(player.getRow(), player.getColumn());
+		engine.movePlayer(player, target);
+		repaintPlayerCell(target.getRow(), target.getCol());
 	}
 
-	/*
-	 * Method that set appropriate cell properties based on the second char
-	 */
-	private void setCellParameters(int row, int col, char settingChar) throws BadConfigFormatException {
-		BoardCell currentCell = getCell(row, col);
-		switch (settingChar) {
-		case ROOM_CENTER:
-			currentCell.setRoomCenter(true);
-			getRoom(currentCell).setCenterCell(currentCell);
-			break;
-		case ROOM_LABEL:
-			currentCell.setRoomLabel(true);
-			getRoom(currentCell).setLabelCell(currentCell);
-			break;
-		case DOOR_UP:
-			getRoom(getCell(row - 1, col)).addDoor(currentCell);
-			currentCell.setDoorDirection(DoorDirection.UP);
-			break;
-		case DOOR_LEFT:
-			getRoom(getCell(row, col - 1)).addDoor(currentCell);
-			currentCell.setDoorDirection(DoorDirection.LEFT);
-			break;
-		case DOOR_RIGHT:
-			getRoom(getCell(row, col + 1)).addDoor(currentCell);
-			currentCell.setDoorDirection(DoorDirection.RIGHT);
-			break;
-		case DOOR_DOWN:
-			getRoom(getCell(row + 1, col)).addDoor(currentCell);
-			currentCell.setDoorDirection(DoorDirection.DOWN);
-			break;
-		default:
-			if (!roomMap.containsKey(settingChar)) {
-				throw new BadConfigFormatException("Secret Room Character does not exist");
-			}
-			getRoom(currentCell).setSecretPassageCell(currentCell);
-			currentCell.setSecretPassage(settingChar);
-			break;
+	// Repaint where every player stands, before and after a turn moves them
+	private void repaintPlayers() {
+		for (Player player : getPlayers()) {
+			repaintPlayerCell(player.getRow(), player.getColumn());
 		}
 	}
 
-	/*
-	 * Instantiate a board grid and set the cell information based on what is in the
-	 * layoutConfig
-	 */
-	private void initializeGrid(ArrayList<String[]> loadedCells) throws BadConfigFormatException {
-		grid = new BoardCell[numRows][numColumns];
-		for (int row = 0; row < numRows; row++) {
-			for (int col = 0; col < numColumns; col++) {
-				char cellInitial = loadedCells.get(row)[col].charAt(0);
-				grid[row][col] = new BoardCell(row, col, cellInitial);
-				BoardCell currentCell = getCell(row, col);
-				if (!getRoom(currentCell).isRoom()) {
-					currentCell.setRoom(false);
-				}
-				else {
-					currentCell.setRoom(true);
-				}
-				if (cellInitial == 'X') {
-					currentCell.setUnused(true);
-				}
-			}
-		}
-
-		setExtraCellProperties(loadedCells);
-
-		// Create adjList for each cell
-		for (int row = 0; row < numRows; row++) {
-			for (int col = 0; col < numColumns; col++) {
-				setupAdjList(getCell(row, col), row, col);
-			}
-		}
+	// Create Solution and deal cards to players
+	public void deal() {
+		engine.deal();
 	}
 
 	/**
-	 * Parses imported cells array and sets properties based on second string
-	 * character
 	 * 
-	 * @param loadedCells
-	 * @throws BadConfigFormatException
+	 * @return true if accusation is correct else false
 	 */
-	private void setExtraCellProperties(ArrayList<String[]> loadedCells) throws BadConfigFormatException {
-		for (int row = 0; row < numRows; row++) {
-			for (int col = 0; col < numColumns; col++) {
-				if (loadedCells.get(row)[col].length() == 2) {
-					char settingChar = loadedCells.get(row)[col].charAt(1);
-					setCellParameters(row, col, settingChar);
-				}
-			}
-		}
+	public boolean checkAccusation(Card personSolution, Card roomSolution, Card weaponSolution) {
+		return engine.checkAccusation(personSolution, roomSolution, weaponSolution);
 	}
 
-	/*
-	 * Checks if number of cols is valid and that all imported rooms exist
+	/**
+	 * @param players list of players to check suggestions with
+	 * @return first card that disputes a suggestion
 	 */
-	private void isLayoutFileValid(ArrayList<String[]> cells) throws BadConfigFormatException {
-		for (String[] row : cells) {
-			if (row.length != numColumns || !areRoomsInLegend(row)) {
-				throw new BadConfigFormatException();
-			}
-		}
+	public Card handleSuggestion(Player accuser, Card personSug, Card roomSug, Card weaponSug) {
+		return engine.handleSuggestion(accuser, personSug, roomSug, weaponSug);
 	}
 
 	/*
-	 * Loads the data from a layout config file and instantiate the board grid array
+	 * Getters and Setters
 	 */
-	public void loadLayoutConfig() throws FileNotFoundException, BadConfigFormatException {
+	public void setConfigFiles(String layoutConfigFile, String setupConfigFile) {
+		engine.setConfigFiles(layoutConfigFile, setupConfigFile);
+	}
 
-		Scanner layoutConfigIn;
-		if (ClueGame.JAR) {
-			InputStream is = getClass().getResourceAsStream(layoutConfigFile);
-			if (is == null) {
-				throw new FileNotFoundException("Could not find layout file");
-			}
-			layoutConfigIn = new Scanner(is);
-		}
-		else {
-			FileReader reader = new FileReader(layoutConfigFile);
-			layoutConfigIn = new Scanner(reader);
-		}
+	/**
+	 * Game shown by the board
+	 */
+	public GameEngine getEngine() {
+		return engine;
+	}
 
-		ArrayList<String[]> cells = new ArrayList<>();
-		while (layoutConfigIn.hasNextLine()) {
-			String line = layoutConfigIn.nextLine();
-			cells.add(line.split(","));
-		}
-		numRows = cells.size();
-		numColumns = cells.get(0).length;
-		isLayoutFileValid(cells);
-		initializeGrid(cells);
+	public BoardCell getCell(int row, int col) {
+		return engine.getCell(row, col);
 	}
 
-	// Create Solution and deal cards to players
-	public void deal() {
-		ArrayList<Card> dealDeck = new ArrayList<>(deck);
-		createSolution(dealDeck);
+	public BoardCell getCell(int cellId) {
+		return engine.getCell(cellId);
+	}
 
-		for (Player player : players) {
-			player.setUnseenCards(deck);
-		}
+	public BoardCell[] getCells() {
+		return engine.getCells();
+	}
 
-		while (dealDeck.size() > 0) {
-			for (Player player : players) {
-				Card dealCard = dealDeck.get(0);
-				dealCard.setCardHolder(player);
-				player.updateHand(dealCard);
-				dealDeck.remove(0);
-			}
-		}
+	public int getCellId(BoardCell cell) {
+		return engine.getCellId(cell);
+	}
 
+	public AdjacencyGraph getAdjacencyGraph() {
+		return engine.getAdjacencyGraph();
 	}
 
-	// Create solution from deck of cards and remove cards from deck
-	private void createSolution(ArrayList<Card> dealDeck) {
-		Card playerSolutionCard = null;
-		Card roomSolutionCard = null;
-		Card weaponSolutionCard = null;
+	/**
+	 * Thread safe target queries for this layout, use instead of calcTargets when
+	 * several threads need targets at once
+	 */
+	public TargetQuery getTargetQuery() {
+		return engine.getTargetQuery();
+	}
 
-		for (int i = 0; i < dealDeck.size(); i++) {
-			Card card = dealDeck.get(i);
-			if (playerSolutionCard == null && card.getCardType().equals(CardType.PERSON)) {
-				playerSolutionCard = card;
-				dealDeck.remove(i);
-			}
-			if (roomSolutionCard == null && card.getCardType().equals(CardType.ROOM)) {
-				roomSolutionCard = card;
-				dealDeck.remove(i);
-			}
-			if (weaponSolutionCard == null && card.getCardType().equals(CardType.WEAPON)) {
-				weaponSolutionCard = card;
-				dealDeck.remove(i);
-			}
-		}
-		theAnswer = new Solution(playerSolutionCard, roomSolutionCard, weaponSolutionCard);
+	/**
+	 * Step distances from every cell to every room for this layout
+	 */
+	public DistanceOracle getDistanceOracle() {
+		return engine.getDistanceOracle();
 	}
 
 	/**
+	 * Number of steps from a cell to a room ignoring other players
 	 * 
-	 * @return true if accusation is correct else false
+	 * @return steps, DistanceOracle.UNREACHABLE if there is no way in
 	 */
-	public boolean checkAccusation(Card personSolution, Card roomSolution, Card weaponSolution) {
-		if (!theAnswer.getPerson().equals(personSolution) || !theAnswer.getRoom().equals(roomSolution)
-				|| !theAnswer.getWeapon().equals(weaponSolution)) {
-			return false;
-		}
-		return true;
+	public int getDistanceToRoom(BoardCell cell, Room room) {
+		return engine.getDistanceToRoom(cell, room);
 	}
 
 	/**
-	 * @param players list of players to check suggestions with
-	 * @return first card that disputes a suggestion
+	 * Expected turns between rooms, loaded from next to the layout file or
+	 * computed on first use
 	 */
-	public Card handleSuggestion(Player accuser, Card personSug, Card roomSug, Card weaponSug) {
-		int startOffset = players.indexOf(accuser) + 1;
-		Card disprovingCard;
-		for (int i = 0; i < players.size() - 1; i++) {
-			disprovingCard = players.get((i + startOffset) % players.size()).disproveSuggestion(personSug, roomSug,
-					weaponSug);
-			if (disprovingCard != null) {
-				return disprovingCard;
-			}
-		}
-		return null;
+	public TravelTimeMatrix getTravelTimes() {
+		return engine.getTravelTimes();
 	}
 
-	/*
-	 * Getters and Setters
+	public OccupancyIndex getOccupancy() {
+		return engine.getOccupancy();
+	}
+
+	public TargetMode getTargetMode() {
+		return engine.getTargetMode();
+	}
+
+	/**
+	 * Choose how targets are calculated. WALKS is faster on large boards and long
+	 * rolls but can reach cells a simple path cannot, see TargetModeComparison.
 	 */
-	public void setConfigFiles(String layoutConfigFile, String setupConfigFile) {
-		this.layoutConfigFile = layoutConfigFile;
-		this.setupConfigFile = setupConfigFile;
+	public void setTargetMode(TargetMode targetMode) {
+		engine.setTargetMode(targetMode);
 	}
 
-	public BoardCell getCell(int row, int col) {
-		return grid[row][col];
+	public BitboardTargetFinder getBitboardTargetFinder() {
+		return engine.getBitboardTargetFinder();
+	}
+
+	public TargetCache getTargetCache() {
+		return engine.getTargetCache();
+	}
+
+	/**
+	 * Set the number of target searches kept in the cache, 0 disables it. Kept
+	 * when a new layout is loaded.
+	 */
+	public void setTargetCacheCapacity(int capacity) {
+		engine.setTargetCacheCapacity(capacity);
 	}
 
 	public int getNumRows() {
-		return numRows;
+		return engine.getNumRows();
 	}
 
 	public int getNumColumns() {
-		return numColumns;
+		return engine.getNumColumns();
 	}
 
 	public Room getRoom(BoardCell cell) {
-		return roomMap.get(cell.getInitial());
+		return engine.getRoom(cell);
 	}
 
 	public Room getRoom(char roomSymbol) {
-		return roomMap.get(roomSymbol);
+		return engine.getRoom(roomSymbol);
 	}
 
 	public Room getRoom(int row, int col) {
-		return getRoom(getCell(row, col));
+		return engine.getRoom(row, col);
+	}
+
+	public Collection<Room> getRooms() {
+		return engine.getRooms();
 	}
 
 	public int getNumRooms() {
-		return roomMap.size();
+		return engine.getNumRooms();
 	}
 
 	public Set<BoardCell> getAdjList(int row, int col) {
-		return getCell(row, col).getAdjList();
+		return engine.getAdjList(row, col);
 	}
 
+	/**
+	 * Targets of the last calcTargets call, the returned set never changes
+	 */
 	public Set<BoardCell> getTargets() {
 		return targets;
 	}
 
 	public ArrayList<Player> getPlayers() {
-		return players;
+		return engine.getPlayers();
 	}
 
 	public ArrayList<Card> getDeck() {
-		return deck;
+		return engine.getDeck();
 	}
 
 	public Solution getTheAnswer() {
-		return theAnswer;
+		return engine.getTheAnswer();
 	}
 
 	public int getDiceRoll() {
-		return diceRoll;
+		return engine.getDiceRoll();
 	}
 
 	public Player getCurrentPlayer() {
-		return players.get(currentPlayer);
+		return engine.getCurrentPlayer();
 	}
 
 	public void updateCurrentPlayer() {
-		currentPlayer = (currentPlayer + 1) % players.size();
+		engine.updateCurrentPlayer();
 	}
 
 	public boolean isPlayerFinished() {
@@ -1031,11 +955,11 @@ public class Board extends JPanel {
 	}
 
 	public Solution getCurrentSuggestion() {
-		return currentSuggestion;
+		return engine.getCurrentSuggestion();
 	}
 
 	public Card getCurrentDisprove() {
-		return currentDisprove;
+		return engine.getCurrentDisprove();
 	}
 
 	public void setGameControl(GameControlPanel gameControl) {
@@ -1047,15 +971,15 @@ public class Board extends JPanel {
 	 */
 
 	public void setTheAnswer(Solution answer) {
-		theAnswer = answer;
+		engine.setTheAnswer(answer);
 	}
 
 	public void setPlayers(ArrayList<Player> players) {
-		this.players = players;
+		engine.setPlayers(players);
 	}
 
 	public void setDeck(ArrayList<Card> deck) {
-		this.deck = deck;
+		engine.setDeck(deck);
 	}
 
 }
@@ -9,28 +9,15 @@ package clueGame;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Image;
-import java.awt.Point;
-import java.awt.Rectangle;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.HashSet;
-import java.util.Set;
-
-import javax.imageio.ImageIO;
 
 public class BoardCell {
 	private static final int DOOR_SCALE = 7;
-	private static final Color DEFAULT_CELL_COLOR = Color.BLACK;
-	private static final Color WALKWAY_CELL_COLOR = new Color(207, 185, 151);
-	private static final Color ROOM_CELL_COLOR = new Color(204, 255, 255);
 	private int row, col;
 	private char initial, secretPassage;
 
 	private boolean roomLabel, roomCenter, isOccupied, isRoom, isUnused;
 	private DoorDirection doorDirection;
-	private Set<BoardCell> adjList;
+	private OccupancyIndex occupancy;
 
 	public BoardCell(int row, int col, char initial) {
 		super();
@@ -43,14 +30,20 @@ public class BoardCell {
 		isOccupied = false;
 		isUnused = false;
 		doorDirection = DoorDirection.NONE;
-		adjList = new HashSet<>();
 	}
 
-	/*
-	 * Add cell to adjacency List
+	/**
+	 * Draw a cell on a graphics object
+	 * 
+	 * @param g          Graphics object
+	 * @param cellWidth
+	 * @param cellHeight
+	 * @param row
+	 * @param col
+	 * 
 	 */
-	public void addAdj(BoardCell cell) {
-		adjList.add(cell);
+	public void draw(Graphics g, int cellWidth, int cellHeight, int row, int col, Color cellColor) {
+		draw(g, cellWidth, cellHeight, row, col, cellColor, true);
 	}
 
 	/**
@@ -61,9 +54,10 @@ public class BoardCell {
 	 * @param cellHeight
 	 * @param row
 	 * @param col
-	 * 
+	 * @param detailed   false to leave out borders, doors and vents on cells too
+	 *                   small to show them
 	 */
-	public void draw(Graphics g, int cellWidth, int cellHeight, int row, int col, Color cellColor) {
+	public void draw(Graphics g, int cellWidth, int cellHeight, int row, int col, Color cellColor, boolean detailed) {
 		int cellPositionVertical = cellHeight * row;
 		int cellPositionHorizontal = cellWidth * col;
 
@@ -75,10 +69,13 @@ public class BoardCell {
 			g.setColor(cellColor);
 		}
 		g.fillRect(cellPositionHorizontal, cellPositionVertical, cellWidth, cellHeight);
+		if (!detailed) {
+			return;
+		}
 
 		// Draw border if it is a walkway
 		if (isWalkway()) {
-			g.setColor(DEFAULT_CELL_COLOR);
+			g.setColor(CellColors.DEFAULT_CELL_COLOR);
 			g.drawRect(cellPositionHorizontal, cellPositionVertical, cellWidth, cellHeight);
 		}
 
@@ -134,33 +131,10 @@ public class BoardCell {
 	 */
 	private void drawSecretPassage(Graphics g, int cellWidth, int cellHeight, int cellPositionVertical,
 			int cellPositionHorizontal) {
-		Image image = null;
-
-		// Handle loading vent from jar or file
-		if (ClueGame.JAR) {
-			try {
-				InputStream is = getClass().getResourceAsStream("vent.png");
-				if (is == null) {
-					throw new FileNotFoundException("Could not find layout file");
-				}
-				image = ImageIO.read(is);
-			}
-			catch (IOException e) {
-				e.printStackTrace();
-			}
-
-		}
-		else {
-			try {
-				image = ImageIO.read(new File("resources/sprites/vent.png"));
-			}
-			catch (IOException e) {
-				e.printStackTrace();
-			}
-		}
+		Image image = SpriteCache.getScaled(SpriteCache.VENT, cellWidth, cellHeight);
 
 		if (image != null) {
-			g.drawImage(image, cellPositionHorizontal, cellPositionVertical, cellWidth, cellHeight, null);
+			g.drawImage(image, cellPositionHorizontal, cellPositionVertical, null);
 		}
 		else {
 			g.setColor(Color.GRAY);
@@ -179,13 +153,18 @@ public class BoardCell {
 		}
 	}
 
+	/**
+	 * Check if a click is on this cell
+	 * 
+	 * @param mouseX     Horizontal click position
+	 * @param mouseY     Vertical click position
+	 * @param cellWidth
+	 * @param cellHeight
+	 */
 	public boolean containsClick(int mouseX, int mouseY, int cellWidth, int cellHeight) {
-		Rectangle rect = new Rectangle(row * cellWidth, col * cellHeight, cellWidth, cellHeight);
-		if (rect.contains(new Point(mouseX, mouseY))) {
-			return true;
-		}
-		else
-			return false;
+		int left = col * cellWidth;
+		int top = row * cellHeight;
+		return mouseX >= left && mouseX < left + cellWidth && mouseY >= top && mouseY < top + cellHeight;
 	}
 
 	/**
@@ -193,23 +172,29 @@ public class BoardCell {
 	 */
 	public Color getCellColor() {
 		if (isRoom()) {
-			return ROOM_CELL_COLOR;
+			return CellColors.ROOM_CELL_COLOR;
 		}
 		else if (isWalkway()) {
-			return WALKWAY_CELL_COLOR;
+			return CellColors.WALKWAY_CELL_COLOR;
 		}
 		else {
-			return DEFAULT_CELL_COLOR;
+			return CellColors.DEFAULT_CELL_COLOR;
 		}
 	}
 
-	/*
-	 * Getters and Setters
+	/**
+	 * Cell colors, only loaded once something is drawn so a headless game never
+	 * loads AWT
 	 */
-	public Set<BoardCell> getAdjList() {
-		return adjList;
+	private static class CellColors {
+		private static final Color DEFAULT_CELL_COLOR = Color.BLACK;
+		private static final Color WALKWAY_CELL_COLOR = new Color(207, 185, 151);
+		private static final Color ROOM_CELL_COLOR = new Color(204, 255, 255);
 	}
 
+	/*
+	 * Getters and Setters
+	 */
 	public boolean isLabel() {
 		return roomLabel;
 	}
@@ -258,9 +243,24 @@ public class BoardCell {
 	}
 
 	public void setOccupied(boolean isOccupied) {
+		if (occupancy != null) {
+			occupancy.setOccupied(this, isOccupied);
+		}
+		else {
+			this.isOccupied = isOccupied;
+		}
+	}
+
+	// Only called by the occupancy index
+	void updateOccupied(boolean isOccupied) {
 		this.isOccupied = isOccupied;
 	}
 
+	// Index that owns the occupancy of the cell
+	void setOccupancy(OccupancyIndex occupancy) {
+		this.occupancy = occupancy;
+	}
+
 	public boolean isRoom() {
 		return isRoom;
 	}
@@ -36,6 +36,14 @@ public class Card {
 		}
 	}
 
+	@Override
+	/**
+	 * Hash on the same name and type that equals compares
+	 */
+	public int hashCode() {
+		return cardName.hashCode() * 31 + cardType.hashCode();
+	}
+
 	/*
 	 * Getters & Setters
 	 */
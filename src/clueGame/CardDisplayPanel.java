@@ -9,7 +9,10 @@ package clueGame;
 import java.awt.Color;
 import java.awt.GridLayout;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -27,6 +30,12 @@ public class CardDisplayPanel extends JPanel {
 	private JPanel weaponCardsInHand;
 	private JPanel weaponCardsSeen;
 	private Player displayPlayer;
+	// Field shown for each card, kept between updates
+	private Map<Card, JTextField> cardFields;
+	// Panels still showing the None placeholder
+	private Set<JPanel> emptyPanels;
+	// How much of the player's hand and seen cards is already shown
+	private int numHandShown, numSeenShown;
 
 	/**
 	 * Setup card display section
@@ -58,6 +67,9 @@ public class CardDisplayPanel extends JPanel {
 		add(weaponCards);
 
 		this.displayPlayer = displayPlayer;
+		cardFields = new HashMap<>();
+		emptyPanels = new HashSet<>();
+		clearCardFields();
 	}
 
 	// Create the Panel for each group of cards
@@ -74,91 +86,90 @@ public class CardDisplayPanel extends JPanel {
 		JPanel panel = new JPanel();
 		panel.setLayout(new GridLayout(0, 1));
 		panel.setBorder(new TitledBorder(status));
-		panel.add(new JTextField("None", 10));
 
 		return panel;
 	}
 
-	// updates people section of gui
-	private void updatePeople(ArrayList<Card> inHandCards, ArrayList<Card> seenCards) {
-		buildCardDisplayArray(inHandCards, peopleCardsInHand);
-		buildCardDisplayArray(seenCards, peopleCardsSeen);
-	}
-
-	// updates room section of gui
-	private void updateRooms(ArrayList<Card> inHandCards, ArrayList<Card> seenCards) {
-		buildCardDisplayArray(inHandCards, roomCardsInHand);
-		buildCardDisplayArray(seenCards, roomCardsSeen);
+	// Panel a card is shown in
+	private JPanel getCardPanel(Card card, boolean inHand) {
+		switch (card.getCardType()) {
+		case PERSON:
+			return inHand ? peopleCardsInHand : peopleCardsSeen;
+		case ROOM:
+			return inHand ? roomCardsInHand : roomCardsSeen;
+		default:
+			return inHand ? weaponCardsInHand : weaponCardsSeen;
+		}
 	}
 
-	// update weapon section of gui
-	private void updateWeapons(ArrayList<Card> inHandCards, ArrayList<Card> seenCards) {
-		buildCardDisplayArray(inHandCards, weaponCardsInHand);
-		buildCardDisplayArray(seenCards, weaponCardsSeen);
+	// Adds one field for a card colored by the player holding it, replacing the
+	// None placeholder if it is the first card of the panel
+	private void addCardField(Card card, boolean inHand) {
+		JPanel panel = getCardPanel(card, inHand);
+		if (emptyPanels.remove(panel)) {
+			panel.removeAll();
+		}
+		JTextField newCard = new JTextField(card.getCardName(), 10);
+		newCard.setEditable(false);
+		newCard.setBackground(card.getCardHolder().getColor());
+		panel.add(newCard);
+		cardFields.put(card, newCard);
 	}
 
-	// Builds the Jtextfields for each card and colors them depending on player
-	// ownership
-	private void buildCardDisplayArray(ArrayList<Card> cards, JPanel panel) {
-
-		panel.removeAll();
-		if (cards.size() == 0) {
-			JTextField newCard = new JTextField("None", 10);
-			newCard.setEditable(false);
-			panel.add(newCard);
+	// Puts every panel back to showing None
+	private void clearCardFields() {
+		for (JPanel panel : new JPanel[] { peopleCardsInHand, peopleCardsSeen, roomCardsInHand, roomCardsSeen,
+				weaponCardsInHand, weaponCardsSeen }) {
+			panel.removeAll();
+			JTextField noCard = new JTextField("None", 10);
+			noCard.setEditable(false);
+			panel.add(noCard);
+			emptyPanels.add(panel);
 		}
-		else {
-			for (Card card : new HashSet<Card>(cards)) {
-				JTextField newCard = new JTextField(card.getCardName(), 10);
-				newCard.setEditable(false);
-				newCard.setBackground(card.getCardHolder().getColor());
-				panel.add(newCard);
-			}
-		}
-
-		panel.revalidate();
+		cardFields.clear();
+		numHandShown = 0;
+		numSeenShown = 0;
 	}
 
-	// Helper function that will separate cards into seen and and hand cards
+	/**
+	 * Adds the cards the player got or saw since the last update. Cards already
+	 * shown keep their fields, cards seen that are also in hand are only shown in
+	 * hand.
+	 */
 	public void updateCardDisplay() {
 		ArrayList<Card> playerCards = displayPlayer.getHand();
-		ArrayList<Card>[] parsedHandCards = new ArrayList[3];
-		parsedHandCards[0] = new ArrayList<Card>();
-		parsedHandCards[1] = new ArrayList<Card>();
-		parsedHandCards[2] = new ArrayList<Card>();
-		for (Card card : playerCards) {
-			if (card.getCardType().equals(CardType.PERSON)) {
-				parsedHandCards[0].add(card);
-			}
-			if (card.getCardType().equals(CardType.ROOM)) {
-				parsedHandCards[1].add(card);
-			}
-			if (card.getCardType().equals(CardType.WEAPON)) {
-				parsedHandCards[2].add(card);
-			}
+		ArrayList<Card> seenCards = displayPlayer.getSeenCards();
+		// Hand and seen cards are only ever added to, anything else is a new game
+		if (playerCards.size() < numHandShown || seenCards.size() < numSeenShown) {
+			clearCardFields();
+		}
+		if (playerCards.size() == numHandShown && seenCards.size() == numSeenShown) {
+			return;
 		}
 
-		ArrayList<Card> seenCards = displayPlayer.getSeenCards();
-		ArrayList<Card>[] parsedSeenCards = new ArrayList[3];
-		parsedSeenCards[0] = new ArrayList<Card>();
-		parsedSeenCards[1] = new ArrayList<Card>();
-		parsedSeenCards[2] = new ArrayList<Card>();
-
-		for (Card card : seenCards) {
-			if (card.getCardType().equals(CardType.PERSON) && !parsedHandCards[0].contains(card)) {
-				parsedSeenCards[0].add(card);
-			}
-			if (card.getCardType().equals(CardType.ROOM) && !parsedHandCards[1].contains(card)) {
-				parsedSeenCards[1].add(card);
+		// Hand first so its cards are not also shown as seen
+		for (; numHandShown < playerCards.size(); numHandShown++) {
+			Card card = playerCards.get(numHandShown);
+			if (!cardFields.containsKey(card)) {
+				addCardField(card, true);
 			}
-			if (card.getCardType().equals(CardType.WEAPON) && !parsedHandCards[2].contains(card)) {
-				parsedSeenCards[2].add(card);
+		}
+		for (; numSeenShown < seenCards.size(); numSeenShown++) {
+			Card card = seenCards.get(numSeenShown);
+			if (!cardFields.containsKey(card)) {
+				addCardField(card, false);
 			}
 		}
 
-		updatePeople(parsedHandCards[0], parsedSeenCards[0]);
-		updateRooms(parsedHandCards[1], parsedSeenCards[1]);
-		updateWeapons(parsedHandCards[2], parsedSeenCards[2]);
+		revalidate();
+		repaint();
+	}
+
+	/**
+	 * Field showing a card, or null if the card is not shown
+	 */
+	public JTextField getCardField(Card card) {
+		return cardFields.get(card);
 	}
 
 	public static void main(String[] args) {
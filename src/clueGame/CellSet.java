@@ -0,0 +1,140 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Set of board cells backed by a bitmap over cell ids. Clearing and refilling
+ * the set does not allocate so it can be reused between target searches.
+ */
+package clueGame;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class CellSet extends AbstractSet<BoardCell> {
+	private BoardCell[] cells;
+	private int numColumns;
+	private long[] members;
+	private int[] cellIds;
+	private int size;
+
+	/**
+	 * @param cells      Board cells indexed by cell id
+	 * @param numColumns Number of columns used to number the cells
+	 */
+	public CellSet(BoardCell[] cells, int numColumns) {
+		super();
+		this.cells = cells;
+		this.numColumns = numColumns;
+		members = new long[(cells.length + 63) / 64];
+		cellIds = new int[cells.length];
+		size = 0;
+	}
+
+	/**
+	 * Add a cell by id
+	 *
+	 * @param cellId
+	 * @return true if the cell was not already in the set
+	 */
+	public boolean addId(int cellId) {
+		long bit = 1L << cellId;
+		if ((members[cellId >>> 6] & bit) != 0) {
+			return false;
+		}
+		members[cellId >>> 6] |= bit;
+		cellIds[size++] = cellId;
+		return true;
+	}
+
+	/**
+	 * Remove a cell by id, keeps the insertion order of the rest
+	 *
+	 * @param cellId
+	 * @return true if the cell was in the set
+	 */
+	public boolean removeId(int cellId) {
+		if (!containsId(cellId)) {
+			return false;
+		}
+		members[cellId >>> 6] &= ~(1L << cellId);
+		int index = 0;
+		while (cellIds[index] != cellId) {
+			index++;
+		}
+		System.arraycopy(cellIds, index + 1, cellIds, index, size - index - 1);
+		size--;
+		return true;
+	}
+
+	public boolean containsId(int cellId) {
+		return (members[cellId >>> 6] & (1L << cellId)) != 0;
+	}
+
+	/**
+	 * Returns the id of the cell at position index in insertion order
+	 */
+	public int getId(int index) {
+		return cellIds[index];
+	}
+
+	/**
+	 * Copy the ids in the set in insertion order
+	 */
+	public int[] toIdArray() {
+		return Arrays.copyOf(cellIds, size);
+	}
+
+	@Override
+	public boolean add(BoardCell cell) {
+		return addId(toCellId(cell));
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof BoardCell)) {
+			return false;
+		}
+		int cellId = toCellId((BoardCell) o);
+		return cellId >= 0 && cellId < cells.length && cells[cellId] == o && containsId(cellId);
+	}
+
+	@Override
+	public void clear() {
+		// Only reset the words that are in use
+		for (int i = 0; i < size; i++) {
+			members[cellIds[i] >>> 6] = 0;
+		}
+		size = 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Iterator<BoardCell> iterator() {
+		return new Iterator<BoardCell>() {
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public BoardCell next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return cells[cellIds[index++]];
+			}
+		};
+	}
+
+	private int toCellId(BoardCell cell) {
+		return cell.getRow() * numColumns + cell.getCol();
+	}
+}
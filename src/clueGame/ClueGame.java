@@ -19,6 +19,7 @@ import javax.sound.sampled.Clip;
 import javax.sound.sampled.FloatControl;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
+import javax.swing.JScrollPane;
 
 @SuppressWarnings("serial")
 public class ClueGame extends JFrame {
@@ -43,13 +44,15 @@ public class ClueGame extends JFrame {
 
 		gameBoard.initialize();
 		gameBoard.deal();
+		SpriteCache.preload(SpriteCache.CAFETERIA, SpriteCache.VENT);
 
 		setLayout(new BorderLayout());
 		cardDisplayPanel = new CardDisplayPanel(gameBoard.getCurrentPlayer());
 		add(cardDisplayPanel, BorderLayout.EAST);
 		gameControlPanel = new GameControlPanel(gameBoard, cardDisplayPanel);
 		add(gameControlPanel, BorderLayout.SOUTH);
-		add(gameBoard, BorderLayout.CENTER);
+		// Board fits the window until zoomed in with control and the mouse wheel
+		add(new JScrollPane(gameBoard), BorderLayout.CENTER);
 
 		gameBoard.setGameControl(gameControlPanel);
 
@@ -8,9 +8,7 @@ package clueGame;
 
 import java.awt.Color;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
-import java.util.Random;
 import java.util.Set;
 
 public class ComputerPlayer extends Player {
@@ -34,10 +32,22 @@ public class ComputerPlayer extends Player {
 	 * @return Solution object containing the generated suggestion cards.
 	 */
 	public Solution createSuggestion() {
-		Card roomSugCard = new Card(super.getCurrentRoom().getName(), CardType.ROOM);
+		return createSuggestion(super.getCurrentRoom());
+	}
+
+	/**
+	 * Generates a solution based on a random weapon and person card from unseen
+	 * hand and a room the player is about to enter
+	 * 
+	 * @param room Room the suggestion is made in
+	 * @return Solution object containing the generated suggestion cards.
+	 */
+	@Override
+	public Solution createSuggestion(Room room) {
+		Card roomSugCard = new Card(room.getName(), CardType.ROOM);
 		Card weaponSugCard = null;
 		Card personSugCard = null;
-		Collections.shuffle(unseenCards);
+		getRandom().shuffle(unseenCards);
 		for (Card card : unseenCards) {
 			if (card.getCardType() == CardType.PERSON && personSugCard == null) {
 				personSugCard = card;
@@ -58,7 +68,7 @@ public class ComputerPlayer extends Player {
 	 */
 	@Override
 	public BoardCell selectTarget(Set<BoardCell> targets) {
-		Random rand = new Random();
+		GameRandom rand = getRandom();
 		ArrayList<BoardCell> reachableRoomCells = new ArrayList<>();
 
 		// Get room cells that are not in visited
@@ -87,6 +97,13 @@ public class ComputerPlayer extends Player {
 		visitedRooms.add(cell);
 	}
 
+	/**
+	 * Room centers the player has already gone for or passed up
+	 */
+	public Set<BoardCell> getVisitedRooms() {
+		return visitedRooms;
+	}
+
 	public Solution getAccusation() {
 		return accusation;
 	}
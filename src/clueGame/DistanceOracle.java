@@ -0,0 +1,169 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Number of steps from every cell to every room, built once per layout with a
+ * breadth first search from each room center. Walking through a room and taking
+ * a secret passage each count as single steps, occupancy is ignored.
+ */
+package clueGame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class DistanceOracle {
+	public static final short UNREACHABLE = Short.MAX_VALUE;
+	private int numCells, numColumns;
+	private BoardCell[] cells;
+	private ArrayList<Room> rooms;
+	private ArrayList<Character> roomInitials;
+	private Map<Room, Integer> roomIndexes;
+	private Map<Character, Integer> roomIndexesByInitial;
+	// distances[roomIndex * numCells + cellId]
+	private short[] distances;
+
+	/**
+	 * @param graph Adjacency graph of the layout
+	 * @param cells Board cells indexed by cell id
+	 * @param roomMap Rooms of the layout by initial, only rooms with a center are
+	 *                used
+	 */
+	public DistanceOracle(AdjacencyGraph graph, BoardCell[] cells, Map<Character, Room> roomMap) {
+		super();
+		this.cells = cells;
+		numCells = graph.getNumCells();
+		numColumns = graph.getNumColumns();
+		rooms = new ArrayList<>();
+		roomInitials = new ArrayList<>();
+		roomIndexes = new HashMap<>();
+		roomIndexesByInitial = new HashMap<>();
+		for (Map.Entry<Character, Room> entry : roomMap.entrySet()) {
+			Room room = entry.getValue();
+			if (room.isRoom() && room.getCenterCell() != null) {
+				roomIndexes.put(room, rooms.size());
+				roomIndexesByInitial.put(entry.getKey(), rooms.size());
+				rooms.add(room);
+				roomInitials.add(entry.getKey());
+			}
+		}
+
+		// Search backwards from each center so the distance is from the cell to the
+		// room even where an edge only goes one way
+		int[] reverseOffsets = new int[numCells + 1];
+		int[] reverseNeighbors = new int[graph.getNeighbors().length];
+		buildReverseGraph(graph, reverseOffsets, reverseNeighbors);
+
+		distances = new short[rooms.size() * numCells];
+		Arrays.fill(distances, UNREACHABLE);
+		int[] queue = new int[numCells];
+		for (int roomIndex = 0; roomIndex < rooms.size(); roomIndex++) {
+			BoardCell center = rooms.get(roomIndex).getCenterCell();
+			int base = roomIndex * numCells;
+			int centerId = graph.getCellId(center.getRow(), center.getCol());
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = centerId;
+			distances[base + centerId] = 0;
+			while (head < tail) {
+				int cellId = queue[head++];
+				short distance = distances[base + cellId];
+				if (distance == UNREACHABLE - 1) {
+					continue;
+				}
+				for (int i = reverseOffsets[cellId]; i < reverseOffsets[cellId + 1]; i++) {
+					int adjId = reverseNeighbors[i];
+					if (distances[base + adjId] == UNREACHABLE) {
+						distances[base + adjId] = (short) (distance + 1);
+						queue[tail++] = adjId;
+					}
+				}
+			}
+		}
+	}
+
+	// Same graph with every edge turned around, in the same offset layout
+	private void buildReverseGraph(AdjacencyGraph graph, int[] reverseOffsets, int[] reverseNeighbors) {
+		int[] offsets = graph.getOffsets();
+		int[] neighbors = graph.getNeighbors();
+		for (int i = 0; i < neighbors.length; i++) {
+			reverseOffsets[neighbors[i] + 1]++;
+		}
+		for (int cellId = 0; cellId < numCells; cellId++) {
+			reverseOffsets[cellId + 1] += reverseOffsets[cellId];
+		}
+		int[] next = Arrays.copyOf(reverseOffsets, numCells);
+		for (int cellId = 0; cellId < numCells; cellId++) {
+			for (int i = offsets[cellId]; i < offsets[cellId + 1]; i++) {
+				reverseNeighbors[next[neighbors[i]]++] = cellId;
+			}
+		}
+	}
+
+	/**
+	 * Steps from a cell to a room. A cell inside a room counts as its center.
+	 *
+	 * @return steps or UNREACHABLE
+	 */
+	public int getDistance(int cellId, int roomIndex) {
+		BoardCell cell = cells[cellId];
+		if (cell.isRoom() && !cell.isRoomCenter()) {
+			Integer ownRoom = roomIndexesByInitial.get(cell.getInitial());
+			if (ownRoom != null) {
+				BoardCell center = rooms.get(ownRoom).getCenterCell();
+				cellId = toCellId(center);
+			}
+		}
+		return distances[roomIndex * numCells + cellId];
+	}
+
+	public int getDistance(BoardCell cell, Room room) {
+		Integer roomIndex = roomIndexes.get(room);
+		if (roomIndex == null) {
+			return UNREACHABLE;
+		}
+		return getDistance(toCellId(cell), roomIndex);
+	}
+
+	/**
+	 * Room with the fewest steps from a cell, ignoring the room the cell is in
+	 */
+	public Room getClosestRoom(BoardCell cell) {
+		int cellId = toCellId(cell);
+		Room closest = null;
+		int closestDistance = UNREACHABLE;
+		for (int roomIndex = 0; roomIndex < rooms.size(); roomIndex++) {
+			int distance = getDistance(cellId, roomIndex);
+			if (distance > 0 && distance < closestDistance) {
+				closest = rooms.get(roomIndex);
+				closestDistance = distance;
+			}
+		}
+		return closest;
+	}
+
+	private int toCellId(BoardCell cell) {
+		return cell.getRow() * numColumns + cell.getCol();
+	}
+
+	/*
+	 * Getters
+	 */
+	public int getNumRooms() {
+		return rooms.size();
+	}
+
+	public Room getRoom(int roomIndex) {
+		return rooms.get(roomIndex);
+	}
+
+	public char getRoomInitial(int roomIndex) {
+		return roomInitials.get(roomIndex);
+	}
+
+	public int getRoomIndex(Room room) {
+		Integer roomIndex = roomIndexes.get(room);
+		return roomIndex == null ? -1 : roomIndex;
+	}
+}
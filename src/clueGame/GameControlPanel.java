@@ -10,6 +10,7 @@ import java.awt.Color;
 import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.JButton;
 import javax.swing.JFrame;
@@ -17,6 +18,7 @@ import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
+import javax.swing.SwingWorker;
 import javax.swing.border.EtchedBorder;
 import javax.swing.border.TitledBorder;
 
@@ -26,6 +28,7 @@ public class GameControlPanel extends JPanel {
 	JTextField player;
 	JTextField guess;
 	JTextField guessResult;
+	JButton nextPlayer;
 	CardDisplayPanel cardDisplayPanel;
 	Board board;
 
@@ -62,7 +65,7 @@ public class GameControlPanel extends JPanel {
 		JButton makeAccusation = new JButton("Make Accusation");
 		makeAccusation.addActionListener(new AccListener());
 		panel.add(makeAccusation);
-		JButton nextPlayer = new JButton("NEXT!");
+		nextPlayer = new JButton("NEXT!");
 
 		nextPlayer.addActionListener(new NextListener());
 		panel.add(nextPlayer);
@@ -83,10 +86,41 @@ public class GameControlPanel extends JPanel {
 			}
 
 			// Update Board States
-			board.updateCurrentPlayer();
-			board.rollDice();
+			board.nextTurn();
 			cardDisplayPanel.updateCardDisplay();
-			board.updateBoardState();
+			board.checkComputerAccusation();
+
+			// Work out the turn in the background so the board keeps painting. The
+			// player stays finished until the turn is shown, so board clicks and
+			// accusations are ignored, and NEXT is off until then.
+			nextPlayer.setEnabled(false);
+			new TurnWorker().execute();
+		}
+
+	}
+
+	/**
+	 * Computes the current player's turn off the event dispatch thread and applies
+	 * it to the board and panel when done
+	 */
+	private class TurnWorker extends SwingWorker<TurnResult, Void> {
+
+		@Override
+		protected TurnResult doInBackground() {
+			return board.computeTurn();
+		}
+
+		@Override
+		protected void done() {
+			try {
+				board.applyTurn(get());
+			}
+			catch (InterruptedException | ExecutionException e) {
+				throw new IllegalStateException("Turn computation failed", e);
+			}
+			finally {
+				nextPlayer.setEnabled(true);
+			}
 
 			// Update Panel Information
 			setTurn(board.getCurrentPlayer(), board.getDiceRoll());
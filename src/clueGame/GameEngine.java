@@ -0,0 +1,1269 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * The game without its Swing view: loads the layout and setup, holds the board
+ * model, players, deck and answer, and runs turns. Game over is returned as a
+ * GameResult instead of shown, so games can be played headless and in bulk.
+ * Engines share nothing, separate games can run on separate threads.
+ */
+package clueGame;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.InputStream;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.Set;
+
+public class GameEngine {
+	private static final String FILE_DELIMITER = ", ";
+	private static final char DOOR_DOWN = 'v';
+	private static final char DOOR_RIGHT = '>';
+	private static final char DOOR_LEFT = '<';
+	private static final char DOOR_UP = '^';
+	private static final char ROOM_LABEL = '#';
+	public static final char ROOM_CENTER = '*';
+	private static final String COMMENT_PREFIX = "//";
+	/*
+	 * Board model, fixed once the layout is loaded
+	 */
+	private int numRows, numColumns;
+	private String layoutConfigFile, setupConfigFile;
+	private Map<Character, Room> roomMap;
+	private BoardCell[][] grid;
+	private BoardCell[] cellsById;
+	private AdjacencyGraph adjacencyGraph;
+	private TargetTable targetTable;
+	private TargetCache targetCache;
+	private int targetCacheCapacity = TargetCache.DEFAULT_CAPACITY;
+	private BitboardTargetFinder bitboardTargetFinder;
+	private TargetQuery targetQuery;
+	private DistanceOracle distanceOracle;
+	private TravelTimeMatrix travelTimes;
+	private TargetMode targetMode = TargetMode.PATHS;
+	private OccupancyIndex occupancy;
+
+	/*
+	 * Game state
+	 */
+	private Solution theAnswer;
+	private ArrayList<Player> players;
+	// Setup lines of the players, used to seat them again for a new game
+	private ArrayList<String[]> playerConfigs;
+	private boolean allComputerPlayers;
+	private ArrayList<Card> deck;
+	// Place of each card in the deck, looked up by name and type like equals
+	private Map<Card, Integer> cardIds;
+	private Map<String, Card> weaponCards;
+	private Map<String, Card> playerCards;
+	private Map<String, Card> roomCards;
+
+	private int currentPlayer;
+	private int diceRoll;
+	private int numTurns;
+	private int numSuggestions;
+	private Solution currentSuggestion;
+	private Card currentDisprove;
+
+	/*
+	 * Random sources split from the game seed, one per subsystem and player
+	 */
+	private long seed;
+	private GameRandom diceRandom;
+	private GameRandom dealRandom;
+	private GameRandom playerRandom;
+
+	// Where the events of the game are recorded, null to not record them
+	private GameLog gameLog;
+
+	public GameEngine() {
+		super();
+		currentPlayer = 0;
+		setSeed(GameRandom.newSeed());
+		diceRoll = rollDice();
+	}
+
+	// roll the dice
+	public int rollDice() {
+		diceRoll = diceRandom.nextInt(6) + 1;
+		return diceRoll;
+	}
+
+	/**
+	 * Restart every random source of the game from a seed. The dice, the deal and
+	 * each player in seat order get their own split, so a seed always plays out
+	 * the same way.
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+		GameRandom gameRandom = new GameRandom(seed);
+		diceRandom = gameRandom.split();
+		dealRandom = gameRandom.split();
+		playerRandom = gameRandom.split();
+		if (players != null) {
+			for (Player player : players) {
+				player.setRandom(playerRandom.split());
+			}
+		}
+	}
+
+	/**
+	 * State of the dice, the deal and each player's random source in seat order,
+	 * a seed and a gamma each. Reading it draws nothing.
+	 */
+	public long[] getRandomState() {
+		long[] state = new long[2 * (2 + players.size())];
+		putRandomState(state, 0, diceRandom);
+		putRandomState(state, 1, dealRandom);
+		for (int seat = 0; seat < players.size(); seat++) {
+			putRandomState(state, 2 + seat, players.get(seat).getRandom());
+		}
+		return state;
+	}
+
+	/**
+	 * Continue the random sources from a state read with getRandomState, the
+	 * game then plays on exactly as the one it was read from
+	 * 
+	 * @throws IllegalArgumentException if the state is not for this many players
+	 *                                  or has an even gamma
+	 */
+	public void setRandomState(long[] state) {
+		if (state.length != 2 * (2 + players.size())) {
+			throw new IllegalArgumentException("Expected random state for the dice, the deal and " + players.size()
+					+ " players, got " + state.length + " numbers");
+		}
+		diceRandom = new GameRandom(state[0], state[1]);
+		dealRandom = new GameRandom(state[2], state[3]);
+		for (int seat = 0; seat < players.size(); seat++) {
+			players.get(seat).setRandom(new GameRandom(state[4 + 2 * seat], state[5 + 2 * seat]));
+		}
+	}
+
+	private static void putRandomState(long[] state, int source, GameRandom random) {
+		state[2 * source] = random.getSeed();
+		state[2 * source + 1] = random.getGamma();
+	}
+
+	/*
+	 * Load the configuration of the board and cell from the files
+	 */
+	public void loadConfigFiles() throws FileNotFoundException, BadConfigFormatException {
+		loadSetupConfig();
+		loadLayoutConfig();
+	}
+
+	/**
+	 * Read every line of a config file, from the jar when running from one
+	 * 
+	 * @param configFile
+	 * @param missingMessage Message of the exception if the file is not there
+	 * @return lines of the file
+	 * @throws FileNotFoundException
+	 */
+	public static List<String> readConfigLines(String configFile, String missingMessage)
+			throws FileNotFoundException {
+		Scanner configIn;
+		if (ClueGame.JAR) {
+			InputStream is = GameEngine.class.getResourceAsStream(configFile);
+			if (is == null) {
+				throw new FileNotFoundException(missingMessage);
+			}
+			configIn = new Scanner(is);
+		}
+		else {
+			configIn = new Scanner(new FileReader(configFile));
+		}
+		List<String> lines = new ArrayList<>();
+		while (configIn.hasNextLine()) {
+			lines.add(configIn.nextLine());
+		}
+		configIn.close();
+		return lines;
+	}
+
+	/*
+	 * Loads the game config setup and builds the game board legend
+	 */
+	public void loadSetupConfig() throws FileNotFoundException, BadConfigFormatException {
+		loadSetupConfig(readConfigLines(setupConfigFile, "Could not find Setup"));
+	}
+
+	/*
+	 * Builds the game board legend from setup lines that were already read, so
+	 * several engines can share one read of the file
+	 */
+	public void loadSetupConfig(List<String> setupLines) throws BadConfigFormatException {
+		roomMap = new HashMap<>();
+		players = new ArrayList<>();
+		playerConfigs = new ArrayList<>();
+		deck = new ArrayList<>();
+		weaponCards = new HashMap<>();
+		playerCards = new HashMap<>();
+		roomCards = new HashMap<>();
+		for (String line : setupLines) {
+			if (!line.startsWith(COMMENT_PREFIX)) {
+				String gameObjectLabel[] = line.split(FILE_DELIMITER);
+
+				String name = gameObjectLabel[1];
+				if (gameObjectLabel[0].equals("Room")) {
+					char roomInitial = gameObjectLabel[2].charAt(0);
+					roomMap.put(roomInitial, new Room(name));
+					roomMap.get(roomInitial).setRoom(true);
+					Card card = new Card(name, CardType.ROOM);
+					deck.add(card);
+					roomCards.put(name, card);
+				}
+				else if (gameObjectLabel[0].equals("Space")) {
+					char roomInitial = gameObjectLabel[2].charAt(0);
+					roomMap.put(roomInitial, new Room(name));
+					roomMap.get(roomInitial).setRoom(false);
+				}
+				else if (gameObjectLabel[0].equals("Player")) {
+					playerConfigs.add(gameObjectLabel);
+					Player player = createPlayer(gameObjectLabel);
+					if (player != null) {
+						players.add(player);
+					}
+					Card card = new Card(name, CardType.PERSON);
+					deck.add(card);
+					playerCards.put(name, card);
+				}
+				else if (gameObjectLabel[0].equals("Weapon")) {
+					Card card = new Card(name, CardType.WEAPON);
+					deck.add(card);
+					weaponCards.put(name, card);
+				}
+				else {
+					throw new BadConfigFormatException();
+				}
+			}
+		}
+		indexDeck();
+		setSeed(seed);
+	}
+
+	// The first copy of a card keeps its id, as deck.indexOf would
+	private void indexDeck() {
+		cardIds = new HashMap<>();
+		for (int i = 0; i < deck.size(); i++) {
+			cardIds.putIfAbsent(deck.get(i), i);
+		}
+	}
+
+	/*
+	 * Create a player from its line of the setup config, null for an unknown type
+	 */
+	private Player createPlayer(String[] gameObjectLabel) {
+		String name = gameObjectLabel[1];
+		String color = gameObjectLabel[2];
+		int row = Integer.parseInt(gameObjectLabel[4]);
+		int column = Integer.parseInt(gameObjectLabel[5]);
+		if (gameObjectLabel[3].equals("Human") && !allComputerPlayers) {
+			return new HumanPlayer(name, color, row, column);
+		}
+		if (gameObjectLabel[3].equals("Human") || gameObjectLabel[3].equals("Computer")) {
+			return new ComputerPlayer(name, color, row, column);
+		}
+		return null;
+	}
+
+	/*
+	 * Check for valid adjacent cells and add to cells adjList
+	 */
+	private void setupAdjList(BoardCell cell, int row, int col) {
+		if (cell.isDoorway()) {
+			setupAdjListDoorway(cell, row, col);
+		}
+		else if (cell.isWalkway()) {
+			setupAdjListWalkWay(cell, row, col);
+		}
+		else if (cell.isRoomCenter()) {
+			setupAdjListRoomCenter(cell);
+		}
+		else {
+			setupAdjListDefault(cell, row, col);
+		}
+	}
+
+	/*
+	 * Add an edge from cell to adjCell in the adjacency graph
+	 */
+	private void addAdj(BoardCell cell, BoardCell adjCell) {
+		adjacencyGraph.addEdge(getCellId(cell), getCellId(adjCell));
+	}
+
+	/*
+	 * Default catch case for cells that are not in handled directly
+	 */
+	private void setupAdjListDefault(BoardCell cell, int row, int col) {
+		if ((row - 1) >= 0) {
+			addAdj(cell, getCell(row - 1, col));
+		}
+		if ((row + 1) < numRows) {
+			addAdj(cell, getCell(row + 1, col));
+		}
+		if ((col - 1) >= 0) {
+			addAdj(cell, getCell(row, col - 1));
+		}
+		if ((col + 1) < numColumns) {
+			addAdj(cell, getCell(row, col + 1));
+		}
+	}
+
+	/**
+	 * Setup adjList for room Centers
+	 * 
+	 * @param The cell belonging to the center of the room
+	 * 
+	 *            Adds the following adjacencies to the roomCenter cell: Doors that
+	 *            grant access to the room, Room centers that are connected via
+	 *            secret passage
+	 */
+	private void setupAdjListRoomCenter(BoardCell roomCenterCell) {
+		// Get entrances from Room object and add to adjList
+		for (BoardCell door : getRoom(roomCenterCell).getDoors()) {
+			addAdj(roomCenterCell, door);
+		}
+
+		// Get the room center that is reachable via secret passage
+		if (getRoom(roomCenterCell).hasSecretPassage()) {
+			BoardCell secretPassage = getRoom(roomCenterCell).getSecretPassageCell();
+			char connectedRoomInitial = secretPassage.getSecretPassage();
+			addAdj(roomCenterCell, getRoom(connectedRoomInitial).getCenterCell());
+		}
+	}
+
+	/**
+	 * Setup adjList for door Cells
+	 * 
+	 * @param doorCell The cell belonging to the doorway
+	 * @param row      doorCell's row in the board
+	 * @param col      doorCell's column in the board
+	 * 
+	 *                 Adds the following cells to the Doors adjList: adjacent
+	 *                 walkways, and connected room center cells
+	 */
+	private void setupAdjListDoorway(BoardCell doorCell, int row, int col) {
+		// A door is a special walkway, get adjacent walkways and add to list
+		setupAdjListWalkWay(doorCell, row, col);
+
+		// Handle room centers
+		switch (doorCell.getDoorDirection()) {
+		case UP:
+			addAdj(doorCell, getRoom(getCell(row - 1, col)).getCenterCell());
+			break;
+		case DOWN:
+			addAdj(doorCell, getRoom(getCell(row + 1, col)).getCenterCell());
+			break;
+		case LEFT:
+			addAdj(doorCell, getRoom(getCell(row, col - 1)).getCenterCell());
+			break;
+		case RIGHT:
+			addAdj(doorCell, getRoom(getCell(row, col + 1)).getCenterCell());
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Setup adjList for door Cells
+	 * 
+	 * walkwayCell The cell belonging to the doorway
+	 * 
+	 * @param row           walkwayCell's row in the board
+	 * @param walkwayCell's column in the board
+	 * 
+	 *                      Adds the following cells to the walkway: adjacent
+	 *                      walkways
+	 */
+	private void setupAdjListWalkWay(BoardCell walkwayCell, int row, int col) {
+		if ((row - 1) >= 0 && getCell(row - 1, col).isWalkway()) {
+			addAdj(walkwayCell, getCell(row - 1, col));
+		}
+		if ((row + 1) < numRows && getCell(row + 1, col).isWalkway()) {
+			addAdj(walkwayCell, getCell(row + 1, col));
+		}
+		if ((col - 1) >= 0 && getCell(row, col - 1).isWalkway()) {
+			addAdj(walkwayCell, getCell(row, col - 1));
+		}
+		if ((col + 1) < numColumns && getCell(row, col + 1).isWalkway()) {
+			addAdj(walkwayCell, getCell(row, col + 1));
+		}
+	}
+
+	/**
+	 * Read only view of a cell's adjacencies backed by the adjacency graph
+	 */
+	private class AdjacencyView extends AbstractSet<BoardCell> {
+		private int cellId;
+
+		public AdjacencyView(int cellId) {
+			this.cellId = cellId;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof BoardCell)) {
+				return false;
+			}
+			BoardCell cell = (BoardCell) o;
+			int adjId = getCellId(cell);
+			if (adjId < 0 || adjId >= cellsById.length || cellsById[adjId] != cell) {
+				return false;
+			}
+			return adjacencyGraph.isAdjacent(cellId, adjId);
+		}
+
+		@Override
+		public int size() {
+			return adjacencyGraph.getDegree(cellId);
+		}
+
+		@Override
+		public Iterator<BoardCell> iterator() {
+			return new Iterator<BoardCell>() {
+				private int index = 0;
+
+				@Override
+				public boolean hasNext() {
+					return index < size();
+				}
+
+				@Override
+				public BoardCell next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return cellsById[adjacencyGraph.getNeighbor(cellId, index++)];
+				}
+			};
+		}
+	}
+
+	/**
+	 * Checks if an array of config cells has a room that is not in the legend
+	 * 
+	 * @row The row of config cell strings to check
+	 */
+	private Boolean areRoomsInLegend(String[] rowOfCells) {
+		for (String cell : rowOfCells) {
+			if (!roomMap.containsKey(cell.charAt(0))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * Method that set appropriate cell properties based on the second char
+	 */
+	private void setCellParameters(int row, int col, char settingChar) throws BadConfigFormatException {
+		BoardCell currentCell = getCell(row, col);
+		switch (settingChar) {
+		case ROOM_CENTER:
+			currentCell.setRoomCenter(true);
+			getRoom(currentCell).setCenterCell(currentCell);
+			break;
+		case ROOM_LABEL:
+			currentCell.setRoomLabel(true);
+			getRoom(currentCell).setLabelCell(currentCell);
+			break;
+		case DOOR_UP:
+			getRoom(getCell(row - 1, col)).addDoor(currentCell);
+			currentCell.setDoorDirection(DoorDirection.UP);
+			break;
+		case DOOR_LEFT:
+			getRoom(getCell(row, col - 1)).addDoor(currentCell);
+			currentCell.setDoorDirection(DoorDirection.LEFT);
+			break;
+		case DOOR_RIGHT:
+			getRoom(getCell(row, col + 1)).addDoor(currentCell);
+			currentCell.setDoorDirection(DoorDirection.RIGHT);
+			break;
+		case DOOR_DOWN:
+			getRoom(getCell(row + 1, col)).addDoor(currentCell);
+			currentCell.setDoorDirection(DoorDirection.DOWN);
+			break;
+		default:
+			if (!roomMap.containsKey(settingChar)) {
+				throw new BadConfigFormatException("Secret Room Character does not exist");
+			}
+			getRoom(currentCell).setSecretPassageCell(currentCell);
+			currentCell.setSecretPassage(settingChar);
+			break;
+		}
+	}
+
+	/*
+	 * Instantiate a board grid and set the cell information based on what is in the
+	 * layoutConfig
+	 */
+	private void initializeGrid(ArrayList<String[]> loadedCells) throws BadConfigFormatException {
+		grid = new BoardCell[numRows][numColumns];
+		cellsById = new BoardCell[numRows * numColumns];
+		for (int row = 0; row < numRows; row++) {
+			for (int col = 0; col < numColumns; col++) {
+				char cellInitial = loadedCells.get(row)[col].charAt(0);
+				grid[row][col] = new BoardCell(row, col, cellInitial);
+				cellsById[row * numColumns + col] = grid[row][col];
+				BoardCell currentCell = getCell(row, col);
+				if (!getRoom(currentCell).isRoom()) {
+					currentCell.setRoom(false);
+				}
+				else {
+					currentCell.setRoom(true);
+				}
+				if (cellInitial == 'X') {
+					currentCell.setUnused(true);
+				}
+			}
+		}
+
+		setExtraCellProperties(loadedCells);
+
+		// Create adjList for each cell, cells are visited in id order
+		adjacencyGraph = new AdjacencyGraph(numRows, numColumns);
+		for (int row = 0; row < numRows; row++) {
+			for (int col = 0; col < numColumns; col++) {
+				setupAdjList(getCell(row, col), row, col);
+			}
+		}
+		adjacencyGraph.finish();
+
+		// Layout is fixed from here on, precompute the targets for every roll
+		targetTable = new TargetTable(adjacencyGraph, cellsById);
+
+		targetCache = new TargetCache(targetCacheCapacity);
+		bitboardTargetFinder = new BitboardTargetFinder(adjacencyGraph, cellsById);
+		targetQuery = new TargetQuery(adjacencyGraph, cellsById, targetTable, targetCache, bitboardTargetFinder);
+
+		occupancy = new OccupancyIndex(cellsById, numColumns);
+		for (BoardCell cell : cellsById) {
+			cell.setOccupancy(occupancy);
+		}
+		// Players only take up a cell once they have moved, as before
+		occupancy.addListener(targetQuery);
+		distanceOracle = new DistanceOracle(adjacencyGraph, cellsById, roomMap);
+		travelTimes = null;
+	}
+
+	/**
+	 * Parses imported cells array and sets properties based on second string
+	 * character
+	 * 
+	 * @param loadedCells
+	 * @throws BadConfigFormatException
+	 */
+	private void setExtraCellProperties(ArrayList<String[]> loadedCells) throws BadConfigFormatException {
+		for (int row = 0; row < numRows; row++) {
+			for (int col = 0; col < numColumns; col++) {
+				if (loadedCells.get(row)[col].length() == 2) {
+					char settingChar = loadedCells.get(row)[col].charAt(1);
+					setCellParameters(row, col, settingChar);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Checks if number of cols is valid and that all imported rooms exist
+	 */
+	private void isLayoutFileValid(ArrayList<String[]> cells) throws BadConfigFormatException {
+		for (String[] row : cells) {
+			if (row.length != numColumns || !areRoomsInLegend(row)) {
+				throw new BadConfigFormatException();
+			}
+		}
+	}
+
+	/*
+	 * Loads the data from a layout config file and instantiate the board grid array
+	 */
+	public void loadLayoutConfig() throws FileNotFoundException, BadConfigFormatException {
+		loadLayoutConfig(readConfigLines(layoutConfigFile, "Could not find layout file"));
+	}
+
+	/*
+	 * Instantiate the board grid from layout lines that were already read
+	 */
+	public void loadLayoutConfig(List<String> layoutLines) throws BadConfigFormatException {
+		ArrayList<String[]> cells = new ArrayList<>();
+		for (String line : layoutLines) {
+			cells.add(line.split(","));
+		}
+		numRows = cells.size();
+		numColumns = cells.get(0).length;
+		isLayoutFileValid(cells);
+		initializeGrid(cells);
+	}
+
+	// Create Solution and deal cards to players
+	public void deal() {
+		deal(new ArrayList<>(deck));
+	}
+
+	// Create Solution and deal cards to players in the order of dealDeck
+	private void deal(ArrayList<Card> dealDeck) {
+		createSolution(dealDeck);
+
+		for (Player player : players) {
+			player.setUnseenCards(deck);
+		}
+
+		while (dealDeck.size() > 0) {
+			for (Player player : players) {
+				Card dealCard = dealDeck.get(0);
+				dealCard.setCardHolder(player);
+				player.updateHand(dealCard);
+				dealDeck.remove(0);
+			}
+		}
+
+	}
+
+	// Create solution from deck of cards and remove cards from deck
+	private void createSolution(ArrayList<Card> dealDeck) {
+		Card playerSolutionCard = null;
+		Card roomSolutionCard = null;
+		Card weaponSolutionCard = null;
+
+		for (int i = 0; i < dealDeck.size(); i++) {
+			Card card = dealDeck.get(i);
+			if (playerSolutionCard == null && card.getCardType().equals(CardType.PERSON)) {
+				playerSolutionCard = card;
+				dealDeck.remove(i);
+			}
+			if (roomSolutionCard == null && card.getCardType().equals(CardType.ROOM)) {
+				roomSolutionCard = card;
+				dealDeck.remove(i);
+			}
+			if (weaponSolutionCard == null && card.getCardType().equals(CardType.WEAPON)) {
+				weaponSolutionCard = card;
+				dealDeck.remove(i);
+			}
+		}
+		theAnswer = new Solution(playerSolutionCard, roomSolutionCard, weaponSolutionCard);
+	}
+
+	/**
+	 * 
+	 * @return true if accusation is correct else false
+	 */
+	public boolean checkAccusation(Card personSolution, Card roomSolution, Card weaponSolution) {
+		if (!theAnswer.getPerson().equals(personSolution) || !theAnswer.getRoom().equals(roomSolution)
+				|| !theAnswer.getWeapon().equals(weaponSolution)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param players list of players to check suggestions with
+	 * @return first card that disputes a suggestion
+	 */
+	public Card handleSuggestion(Player accuser, Card personSug, Card roomSug, Card weaponSug) {
+		return showCard(findDisprover(accuser, personSug, roomSug, weaponSug), personSug, roomSug, weaponSug);
+	}
+
+	// Seat of the first player after the accuser holding a suggested card, -1 if
+	// nobody does
+	private int findDisprover(Player accuser, Card personSug, Card roomSug, Card weaponSug) {
+		int startOffset = players.indexOf(accuser) + 1;
+		for (int i = 0; i < players.size() - 1; i++) {
+			int seat = (i + startOffset) % players.size();
+			ArrayList<Card> hand = players.get(seat).getHand();
+			if (hand.contains(personSug) || hand.contains(roomSug) || hand.contains(weaponSug)) {
+				return seat;
+			}
+		}
+		return -1;
+	}
+
+	// The card the player in seat shows against a suggestion, null for seat -1
+	private Card showCard(int seat, Card personSug, Card roomSug, Card weaponSug) {
+		return seat < 0 ? null : players.get(seat).disproveSuggestion(personSug, roomSug, weaponSug);
+	}
+
+	/**
+	 * Start a new game on the loaded layout with a seed nobody chose
+	 */
+	public void newGame() {
+		newGame(GameRandom.newSeed());
+	}
+
+	/**
+	 * Start a new game on the loaded layout: seat the players again, free the
+	 * board, and deal a shuffled deck. The same seed plays the same game.
+	 */
+	public void newGame(long seed) {
+		resetGame(seed);
+		ArrayList<Card> dealDeck = new ArrayList<>(deck);
+		dealRandom.shuffle(dealDeck);
+		deal(dealDeck);
+
+		if (gameLog != null) {
+			int[] answer = { getCardId(theAnswer.getPerson()), getCardId(theAnswer.getRoom()),
+					getCardId(theAnswer.getWeapon()) };
+			ArrayList<int[]> hands = new ArrayList<>();
+			for (Player player : players) {
+				int[] hand = new int[player.getHand().size()];
+				for (int i = 0; i < hand.length; i++) {
+					hand[i] = getCardId(player.getHand().get(i));
+				}
+				hands.add(hand);
+			}
+			gameLog.startGame(seed, answer, hands);
+			gameLog.roll(currentPlayer, diceRoll);
+		}
+	}
+
+	/**
+	 * Start a new game with a deal that is already known, as when replaying a
+	 * logged game. The players' random choices are seeded from seed.
+	 *
+	 * @param answer Cards of the answer
+	 * @param hands  Each player's hand by seat, in the order dealt
+	 */
+	public void newGame(long seed, Solution answer, List<? extends List<Card>> hands) {
+		resetGame(seed);
+		theAnswer = answer;
+		for (int seat = 0; seat < players.size(); seat++) {
+			Player player = players.get(seat);
+			player.setUnseenCards(deck);
+			for (Card card : hands.get(seat)) {
+				card.setCardHolder(player);
+				player.updateHand(card);
+			}
+		}
+	}
+
+	// Seat the players again and clear the board and turn state
+	private void resetGame(long seed) {
+		players = new ArrayList<>();
+		for (String[] playerConfig : playerConfigs) {
+			Player player = createPlayer(playerConfig);
+			if (player != null) {
+				players.add(player);
+			}
+		}
+		occupancy.clear();
+		currentPlayer = 0;
+		numTurns = 0;
+		numSuggestions = 0;
+		currentSuggestion = null;
+		currentDisprove = null;
+		setSeed(seed);
+		rollDice();
+	}
+
+	/**
+	 * Play turns until someone accuses or maxTurns turns have been played. Human
+	 * players do not move.
+	 * 
+	 * @param maxTurns Turn limit, counted from the start of the game
+	 * @return how the game ended, without an accuser if the limit was reached
+	 */
+	public GameResult playGame(int maxTurns) {
+		while (numTurns < maxTurns) {
+			GameResult result = playTurn();
+			if (result != null) {
+				return result;
+			}
+			nextTurn();
+		}
+		return new GameResult(null, null, false, numTurns, numSuggestions);
+	}
+
+	/**
+	 * Play the current player's turn: accuse if ready, otherwise move and suggest
+	 * 
+	 * @return the end of the game, or null if it goes on
+	 */
+	public GameResult playTurn() {
+		GameResult result = checkComputerAccusation();
+		if (result != null) {
+			return result;
+		}
+		applyTurn(computeTurn());
+		return null;
+	}
+
+	/**
+	 * Pass the turn to the next player and roll for them
+	 */
+	public void nextTurn() {
+		updateCurrentPlayer();
+		rollDice();
+		numTurns++;
+		if (gameLog != null) {
+			gameLog.roll(currentPlayer, diceRoll);
+		}
+	}
+
+	/**
+	 * A computer player with an accusation ready makes it at the start of their
+	 * turn, which ends the game right or wrong
+	 * 
+	 * @return the end of the game, or null if the current player does not accuse
+	 */
+	public GameResult checkComputerAccusation() {
+		Player movePlayer = getCurrentPlayer();
+		if (movePlayer.isHuman() || movePlayer.getAccusation() == null) {
+			return null;
+		}
+		return makeAccusation(movePlayer, movePlayer.getAccusation());
+	}
+
+	/**
+	 * A player accuses, which ends the game right or wrong
+	 *
+	 * @return the end of the game
+	 */
+	public GameResult makeAccusation(Player player, Solution accusation) {
+		if (gameLog != null) {
+			gameLog.accusation(players.indexOf(player), getCardId(accusation.getPerson()),
+					getCardId(accusation.getRoom()), getCardId(accusation.getWeapon()));
+		}
+		return new GameResult(player, accusation, accusation.equals(theAnswer), numTurns, numSuggestions);
+	}
+
+	/**
+	 * Work out the current player's turn without changing the game: the targets,
+	 * and for a computer player the move, suggestion and disproving card. Can run
+	 * on another thread as long as nothing else changes the game until the result
+	 * is applied.
+	 * 
+	 * @return the turn, pass to applyTurn
+	 */
+	public TurnResult computeTurn() {
+		Player movePlayer = getCurrentPlayer();
+		BoardCell startCell = getCell(movePlayer.getRow(), movePlayer.getColumn());
+		// A player moved by a suggestion may also stay where they are
+		TargetResult turnTargets = targetQuery.query(startCell, diceRoll, targetMode);
+		if (movePlayer.isMovedSuggestion()) {
+			turnTargets = turnTargets.with(startCell);
+		}
+		if (movePlayer.isHuman() || turnTargets.size() == 0) {
+			return new TurnResult(movePlayer, turnTargets, null, null, -1, null);
+		}
+
+		// Computer players suggest whenever they make it into a room
+		BoardCell target = movePlayer.selectTarget(turnTargets);
+		Room targetRoom = getRoom(target);
+		Solution suggestion = null;
+		int disproverSeat = -1;
+		Card disprovingCard = null;
+		if (targetRoom.isRoom()) {
+			suggestion = movePlayer.createSuggestion(targetRoom);
+			disproverSeat = findDisprover(movePlayer, suggestion.getPerson(), suggestion.getRoom(),
+					suggestion.getWeapon());
+			disprovingCard = showCard(disproverSeat, suggestion.getPerson(), suggestion.getRoom(),
+					suggestion.getWeapon());
+		}
+		return new TurnResult(movePlayer, turnTargets, target, suggestion, disproverSeat, disprovingCard);
+	}
+
+	/**
+	 * Apply a turn from computeTurn: move the player, bring the suggested player
+	 * along and record what was learned
+	 * 
+	 * @param turn
+	 */
+	public void applyTurn(TurnResult turn) {
+		// Reset the suggestions for new player
+		currentSuggestion = null;
+		currentDisprove = null;
+
+		Player movePlayer = turn.getPlayer();
+		movePlayer.setMovedSuggestion(false);
+		BoardCell target = turn.getTarget();
+		if (target == null) {
+			return;
+		}
+
+		movePlayer(movePlayer, target);
+		if (turn.getSuggestion() != null) {
+			numSuggestions++;
+			currentSuggestion = turn.getSuggestion();
+			logSuggestion(movePlayer);
+			moveSuggestedPlayer(currentSuggestion, target);
+			currentDisprove = turn.getDisprovingCard();
+			logDisprove(turn.getDisproverSeat());
+			if (currentDisprove != null) {
+				movePlayer.updateSeen(currentDisprove);
+			}
+			else {
+				if (!movePlayer.getHand().contains(currentSuggestion.getRoom())) {
+					movePlayer.setAccusation(currentSuggestion);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Suggest a person and weapon in the room a player is in and show the player
+	 * the disproving card
+	 * 
+	 * @return the disproving card, or null if nobody could disprove
+	 */
+	public Card makeSuggestion(Player player, Card person, Card weapon) {
+		numSuggestions++;
+		currentSuggestion = new Solution(person, roomCards.get(player.getCurrentRoom().getName()), weapon);
+		logSuggestion(player);
+		int disproverSeat = findDisprover(player, currentSuggestion.getPerson(), currentSuggestion.getRoom(),
+				currentSuggestion.getWeapon());
+		currentDisprove = showCard(disproverSeat, currentSuggestion.getPerson(), currentSuggestion.getRoom(),
+				currentSuggestion.getWeapon());
+		logDisprove(disproverSeat);
+		if (currentDisprove != null) {
+			player.updateSeen(currentDisprove);
+		}
+		return currentDisprove;
+	}
+
+	/**
+	 * Move the player named in a suggestion into the room it was made in
+	 * 
+	 * @param suggestion
+	 * @param roomCenter Center of the room the suggestion was made in
+	 */
+	public void moveSuggestedPlayer(Solution suggestion, BoardCell roomCenter) {
+		for (Player player : players) {
+			if (player.getName().equals(suggestion.getPerson().getCardName())) {
+				placePlayer(player, roomCenter);
+				player.setMovedSuggestion(true);
+				if (gameLog != null) {
+					gameLog.move(players.indexOf(player), getCellId(roomCenter), true);
+				}
+			}
+		}
+	}
+
+	private void logSuggestion(Player player) {
+		if (gameLog != null) {
+			gameLog.suggestion(players.indexOf(player), getCardId(currentSuggestion.getPerson()),
+					getCardId(currentSuggestion.getRoom()), getCardId(currentSuggestion.getWeapon()));
+		}
+	}
+
+	private void logDisprove(int disproverSeat) {
+		if (gameLog != null) {
+			gameLog.disprove(disproverSeat, currentDisprove == null ? -1 : getCardId(currentDisprove));
+		}
+	}
+
+	/**
+	 * Move a player to a cell and update the occupancy and the player's room
+	 * 
+	 * @param player
+	 * @param target Cell the player ends up on, room centers for rooms
+	 */
+	public void movePlayer(Player player, BoardCell target) {
+		placePlayer(player, target);
+		if (gameLog != null) {
+			gameLog.move(players.indexOf(player), getCellId(target), false);
+		}
+	}
+
+	private void placePlayer(Player player, BoardCell target) {
+		player.updatePosition(target);
+		player.setRoom(getRoom(target));
+		occupancy.movePlayer(player, target);
+	}
+
+	/**
+	 * Determine reachable cells based on start cell, pathlength, and cell types
+	 * 
+	 * @param startCell
+	 * @param pathLength Max travel distance
+	 * @return Immutable targets
+	 */
+	public TargetResult calcTargets(BoardCell startCell, int pathLength) {
+		return targetQuery.query(startCell, pathLength, targetMode);
+	}
+
+	/**
+	 * Determine reachable cells for every roll up to maxPathLength in the
+	 * current target mode, the same cells calcTargets gives for each roll
+	 * 
+	 * @param startCell
+	 * @param maxPathLength Largest roll to consider
+	 * @return Targets indexed by roll, index 0 is empty
+	 */
+	public TargetResult[] calcTargetsAllRolls(BoardCell startCell, int maxPathLength) {
+		return targetQuery.queryAllRolls(startCell, maxPathLength, targetMode);
+	}
+
+	/*
+	 * Getters and Setters
+	 */
+	public void setConfigFiles(String layoutConfigFile, String setupConfigFile) {
+		this.layoutConfigFile = layoutConfigFile;
+		this.setupConfigFile = setupConfigFile;
+	}
+
+	public BoardCell getCell(int row, int col) {
+		return grid[row][col];
+	}
+
+	public BoardCell getCell(int cellId) {
+		return cellsById[cellId];
+	}
+
+	public int getCellId(BoardCell cell) {
+		return cell.getRow() * numColumns + cell.getCol();
+	}
+
+	public AdjacencyGraph getAdjacencyGraph() {
+		return adjacencyGraph;
+	}
+
+	/**
+	 * Thread safe target queries for this layout, use instead of calcTargets when
+	 * several threads need targets at once
+	 */
+	public TargetQuery getTargetQuery() {
+		return targetQuery;
+	}
+
+	/**
+	 * Step distances from every cell to every room for this layout
+	 */
+	public DistanceOracle getDistanceOracle() {
+		return distanceOracle;
+	}
+
+	/**
+	 * Number of steps from a cell to a room ignoring other players
+	 * 
+	 * @return steps, DistanceOracle.UNREACHABLE if there is no way in
+	 */
+	public int getDistanceToRoom(BoardCell cell, Room room) {
+		return distanceOracle.getDistance(cell, room);
+	}
+
+	/**
+	 * Expected turns between rooms, loaded from next to the layout file or
+	 * computed on first use
+	 */
+	public synchronized TravelTimeMatrix getTravelTimes() {
+		if (travelTimes == null) {
+			travelTimes = TravelTimeMatrix.loadOrCompute(layoutConfigFile, adjacencyGraph, cellsById, targetTable,
+					distanceOracle);
+		}
+		return travelTimes;
+	}
+
+	public OccupancyIndex getOccupancy() {
+		return occupancy;
+	}
+
+	public TargetMode getTargetMode() {
+		return targetMode;
+	}
+
+	/**
+	 * Choose how targets are calculated. WALKS is faster on large boards and long
+	 * rolls but can reach cells a simple path cannot, see TargetModeComparison.
+	 */
+	public void setTargetMode(TargetMode targetMode) {
+		this.targetMode = targetMode;
+	}
+
+	public BitboardTargetFinder getBitboardTargetFinder() {
+		return bitboardTargetFinder;
+	}
+
+	public TargetCache getTargetCache() {
+		return targetCache;
+	}
+
+	/**
+	 * Set the number of target searches kept in the cache, 0 disables it. Kept
+	 * when a new layout is loaded.
+	 */
+	public void setTargetCacheCapacity(int capacity) {
+		targetCacheCapacity = capacity;
+		if (targetCache != null) {
+			targetCache.setCapacity(capacity);
+		}
+	}
+
+	public int getNumRows() {
+		return numRows;
+	}
+
+	public int getNumColumns() {
+		return numColumns;
+	}
+
+	public Room getRoom(BoardCell cell) {
+		return roomMap.get(cell.getInitial());
+	}
+
+	public Room getRoom(char roomSymbol) {
+		return roomMap.get(roomSymbol);
+	}
+
+	public Room getRoom(int row, int col) {
+		return getRoom(getCell(row, col));
+	}
+
+	public int getNumRooms() {
+		return roomMap.size();
+	}
+
+	public Set<BoardCell> getAdjList(int row, int col) {
+		return new AdjacencyView(adjacencyGraph.getCellId(row, col));
+	}
+
+	public Collection<Room> getRooms() {
+		return roomMap.values();
+	}
+
+	public BoardCell[] getCells() {
+		return cellsById;
+	}
+
+	public ArrayList<Player> getPlayers() {
+		return players;
+	}
+
+	public ArrayList<Card> getDeck() {
+		return deck;
+	}
+
+	public Map<String, Card> getPlayerCards() {
+		return playerCards;
+	}
+
+	public Map<String, Card> getRoomCards() {
+		return roomCards;
+	}
+
+	public Map<String, Card> getWeaponCards() {
+		return weaponCards;
+	}
+
+	public Solution getTheAnswer() {
+		return theAnswer;
+	}
+
+	public int getDiceRoll() {
+		return diceRoll;
+	}
+
+	public int getNumTurns() {
+		return numTurns;
+	}
+
+	public int getNumSuggestions() {
+		return numSuggestions;
+	}
+
+	/**
+	 * Seed of the current game, pass to newGame to play it again
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	public Player getCurrentPlayer() {
+		return players.get(currentPlayer);
+	}
+
+	public void updateCurrentPlayer() {
+		currentPlayer = (currentPlayer + 1) % players.size();
+	}
+
+	public Solution getCurrentSuggestion() {
+		return currentSuggestion;
+	}
+
+	public Card getCurrentDisprove() {
+		return currentDisprove;
+	}
+
+	/**
+	 * Stable id of a card, its place in the deck as loaded from the setup
+	 */
+	public int getCardId(Card card) {
+		Integer cardId = cardIds.get(card);
+		return cardId == null ? -1 : cardId;
+	}
+
+	public Card getCard(int cardId) {
+		return deck.get(cardId);
+	}
+
+	public GameLog getGameLog() {
+		return gameLog;
+	}
+
+	/**
+	 * Record the events of the games played from now on, null to stop
+	 */
+	public void setGameLog(GameLog gameLog) {
+		this.gameLog = gameLog;
+	}
+
+	/**
+	 * Jump to a turn, for replaying and restoring games
+	 */
+	public void setTurn(int currentPlayer, int diceRoll, int numTurns) {
+		this.currentPlayer = currentPlayer;
+		this.diceRoll = diceRoll;
+		this.numTurns = numTurns;
+	}
+
+	public void setNumSuggestions(int numSuggestions) {
+		this.numSuggestions = numSuggestions;
+	}
+
+	public void setCurrentSuggestion(Solution currentSuggestion) {
+		this.currentSuggestion = currentSuggestion;
+	}
+
+	public void setCurrentDisprove(Card currentDisprove) {
+		this.currentDisprove = currentDisprove;
+	}
+
+	/**
+	 * Seat every player as a computer, the human seats of the setup included.
+	 * Used from the next setup load or new game on.
+	 */
+	public void setAllComputerPlayers(boolean allComputerPlayers) {
+		this.allComputerPlayers = allComputerPlayers;
+	}
+
+	public boolean isAllComputerPlayers() {
+		return allComputerPlayers;
+	}
+
+	/*
+	 * Testing Getters and Setters
+	 */
+
+	public void setTheAnswer(Solution answer) {
+		theAnswer = answer;
+	}
+
+	public void setPlayers(ArrayList<Player> players) {
+		this.players = players;
+	}
+
+	public void setDeck(ArrayList<Card> deck) {
+		this.deck = deck;
+		indexDeck();
+	}
+}
@@ -0,0 +1,178 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Append only binary record of every game an engine plays. Each event is a tag
+ * byte followed by varints, cards by their place in the deck and cells by cell
+ * id, so a turn costs a handful of bytes. Events collect in a buffer and go to
+ * the file channel when it fills, on flush and on close. Not thread safe, give
+ * each engine its own log.
+ */
+package clueGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class GameLog implements Closeable {
+	static final int FILE_MAGIC = 0x434c4731;
+	// Tags of the events, the first byte of each
+	static final int START = 1;
+	static final int ROLL = 2;
+	static final int MOVE = 3;
+	static final int SUGGESTION = 4;
+	static final int DISPROVE = 5;
+	static final int ACCUSATION = 6;
+	private static final int BUFFER_SIZE = 1 << 16;
+	private FileChannel channel;
+	private ByteBuffer buffer;
+
+	/**
+	 * Open a log, adding to the end if the file is already there
+	 *
+	 * @param file
+	 * @throws IOException if the file can not be opened
+	 */
+	public GameLog(Path file) throws IOException {
+		super();
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+		buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		if (channel.size() == 0) {
+			buffer.putInt(FILE_MAGIC);
+		}
+	}
+
+	/**
+	 * A new game was dealt
+	 *
+	 * @param seed   Seed of the game
+	 * @param answer Card ids of the person, room and weapon of the answer
+	 * @param hands  Card ids of each player's hand by seat, in the order dealt
+	 */
+	public void startGame(long seed, int[] answer, List<int[]> hands) {
+		writeTag(START);
+		writeVarLong(seed);
+		for (int cardId : answer) {
+			writeVarInt(cardId);
+		}
+		writeVarInt(hands.size());
+		for (int[] hand : hands) {
+			writeVarInt(hand.length);
+			for (int cardId : hand) {
+				writeVarInt(cardId);
+			}
+		}
+	}
+
+	/**
+	 * A turn began, the player in seat rolled
+	 */
+	public void roll(int seat, int roll) {
+		writeTag(ROLL);
+		writeVarInt(seat);
+		writeVarInt(roll);
+	}
+
+	/**
+	 * The player in seat moved to a cell
+	 *
+	 * @param pulled true if they were brought there by someone's suggestion
+	 */
+	public void move(int seat, int cellId, boolean pulled) {
+		writeTag(MOVE);
+		writeVarInt(seat);
+		writeVarInt(cellId << 1 | (pulled ? 1 : 0));
+	}
+
+	/**
+	 * The player in seat suggested a person, room and weapon
+	 */
+	public void suggestion(int seat, int personId, int roomId, int weaponId) {
+		writeTag(SUGGESTION);
+		writeVarInt(seat);
+		writeVarInt(personId);
+		writeVarInt(roomId);
+		writeVarInt(weaponId);
+	}
+
+	/**
+	 * The last suggestion was answered
+	 *
+	 * @param seat   Seat of the player that showed a card, -1 if nobody could
+	 * @param cardId Card shown, ignored if nobody could
+	 */
+	public void disprove(int seat, int cardId) {
+		writeTag(DISPROVE);
+		writeVarInt(seat + 1);
+		if (seat >= 0) {
+			writeVarInt(cardId);
+		}
+	}
+
+	/**
+	 * The player in seat accused a person, room and weapon, which ends the game
+	 */
+	public void accusation(int seat, int personId, int roomId, int weaponId) {
+		writeTag(ACCUSATION);
+		writeVarInt(seat);
+		writeVarInt(personId);
+		writeVarInt(roomId);
+		writeVarInt(weaponId);
+	}
+
+	/**
+	 * Write out the buffered events
+	 *
+	 * @throws IOException
+	 */
+	public void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		}
+		finally {
+			channel.close();
+		}
+	}
+
+	private void writeTag(int tag) {
+		reserve(1);
+		buffer.put((byte) tag);
+	}
+
+	private void writeVarInt(int value) {
+		reserve(Varint.MAX_INT_BYTES);
+		Varint.putInt(buffer, value);
+	}
+
+	private void writeVarLong(long value) {
+		reserve(Varint.MAX_LONG_BYTES);
+		Varint.putLong(buffer, value);
+	}
+
+	// Events are called from game code that can not handle IOException
+	private void reserve(int numBytes) {
+		if (buffer.remaining() < numBytes) {
+			try {
+				flush();
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException("Failed to write game log", e);
+			}
+		}
+	}
+}
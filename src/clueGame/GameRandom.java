@@ -0,0 +1,137 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Seeded source of the random choices in a game, the SplitMix64 generator
+ * SplittableRandom uses, drawing the same numbers for the same seed. The state
+ * is a seed and a gamma, which can be read out and given back to continue
+ * exactly where the source left off. The engine splits one per subsystem and
+ * player from the game seed, so the same seed replays the same game no matter
+ * what else runs. Not thread safe, split one for each thread instead.
+ */
+package clueGame;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class GameRandom {
+	// Odd constant SplittableRandom steps its seed by, spreads nearby seeds apart
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+	private long seed;
+	private final long gamma;
+
+	public GameRandom(long seed) {
+		this(seed, GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Source continuing from a state read with getSeed and getGamma
+	 *
+	 * @throws IllegalArgumentException if gamma is even, no source has one
+	 */
+	public GameRandom(long seed, long gamma) {
+		super();
+		if ((gamma & 1) == 0) {
+			throw new IllegalArgumentException("Gamma must be odd");
+		}
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+
+	/**
+	 * Source with a seed nobody chose, for games that do not need replaying
+	 */
+	public static GameRandom unseeded() {
+		return new GameRandom(newSeed());
+	}
+
+	public static long newSeed() {
+		return ThreadLocalRandom.current().nextLong();
+	}
+
+	/**
+	 * Seed of one game of a run, depends only on the run seed and the game number
+	 * so it does not matter which thread plays the game or when
+	 */
+	public static long gameSeed(long runSeed, long gameIndex) {
+		return new GameRandom(runSeed + gameIndex * GOLDEN_GAMMA).nextLong();
+	}
+
+	/**
+	 * New independent source, this one moves on by two steps
+	 */
+	public GameRandom split() {
+		return new GameRandom(nextLong(), mixGamma(nextSeed()));
+	}
+
+	/**
+	 * @return value from 0 up to but not including bound
+	 */
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("Bound must be positive");
+		}
+		int r = mix32(nextSeed());
+		int m = bound - 1;
+		if ((bound & m) == 0) {
+			return r & m;
+		}
+		// Draw again on the few values that would favor the low numbers
+		int u = r >>> 1;
+		while (u + m - (r = u % bound) < 0) {
+			u = mix32(nextSeed()) >>> 1;
+		}
+		return r;
+	}
+
+	public long nextLong() {
+		return mix64(nextSeed());
+	}
+
+	/**
+	 * Shuffle a list in place, Collections.shuffle only takes a Random
+	 */
+	public void shuffle(List<?> list) {
+		for (int i = list.size() - 1; i > 0; i--) {
+			Collections.swap(list, i, nextInt(i + 1));
+		}
+	}
+
+	private long nextSeed() {
+		return seed += gamma;
+	}
+
+	// The mixing functions and constants of SplittableRandom
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	private static int mix32(long z) {
+		z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+		return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+	}
+
+	private static long mixGamma(long z) {
+		z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+		z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		z = (z ^ (z >>> 33)) | 1L;
+		int n = Long.bitCount(z ^ (z >>> 1));
+		return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+	}
+
+	/* Getters */
+
+	/**
+	 * Seed of the current state, changes with every number drawn
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	public long getGamma() {
+		return gamma;
+	}
+}
@@ -0,0 +1,250 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Reads a GameLog back and rebuilds its games on an engine, one game per call.
+ * Events are applied straight to the engine state, nothing is searched or
+ * decided again, so a game comes back much faster than playing it. The board
+ * matches the original after every event: positions, hands, seen cards,
+ * suggestions, accusations, whose turn it is and the dice. What a computer
+ * player keeps to itself, the rooms it has looked at and the order of its
+ * unseen cards, is not an event and is not rebuilt.
+ */
+package clueGame;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class GameReplayer implements Closeable {
+	private static final int BUFFER_SIZE = 1 << 16;
+	private FileChannel channel;
+	private ByteBuffer buffer;
+	// Tag of the event after the last game replayed, -1 at the end of the log
+	private int nextTag;
+
+	/**
+	 * @param file Log written by GameLog
+	 * @throws IOException if the file can not be read or is not a game log
+	 */
+	public GameReplayer(Path file) throws IOException {
+		super();
+		channel = FileChannel.open(file, StandardOpenOption.READ);
+		buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		buffer.flip();
+		if (!fill() || buffer.remaining() < 4 || buffer.getInt() != GameLog.FILE_MAGIC) {
+			channel.close();
+			throw new IOException("Not a game log: " + file);
+		}
+		nextTag = readTag();
+	}
+
+	public boolean hasNextGame() {
+		return nextTag == GameLog.START;
+	}
+
+	/**
+	 * Rebuild the next game of the log on an engine loaded with the same setup
+	 * and layout it was played on. Give the engine no log of its own, or the
+	 * replayed moves are logged again.
+	 *
+	 * @param engine
+	 * @return how the game ended, without an accuser if the log stops before
+	 *         anyone accused
+	 * @throws IOException if the log can not be read or does not fit the engine
+	 */
+	public GameResult replayGame(GameEngine engine) throws IOException {
+		if (!hasNextGame()) {
+			throw new NoSuchElementException("No games left in the log");
+		}
+		long seed = readVarLong();
+		Solution answer = new Solution(readCard(engine), readCard(engine), readCard(engine));
+		int numPlayers = readVarInt();
+		if (numPlayers != engine.getPlayers().size()) {
+			throw new IOException("Game log has " + numPlayers + " players, the setup has "
+					+ engine.getPlayers().size());
+		}
+		List<List<Card>> hands = new ArrayList<>();
+		for (int seat = 0; seat < numPlayers; seat++) {
+			int handSize = readVarInt();
+			if (handSize < 0 || handSize > engine.getDeck().size()) {
+				throw new IOException("Game log has a hand of " + handSize + " cards");
+			}
+			List<Card> hand = new ArrayList<>(handSize);
+			for (int i = 0; i < handSize; i++) {
+				hand.add(readCard(engine));
+			}
+			hands.add(hand);
+		}
+		engine.newGame(seed, answer, hands);
+
+		// The player whose turn began but whose move has not been applied yet.
+		// Applying a turn clears the last suggestion and their suggestion move.
+		Player turnPlayer = null;
+		Player suggester = null;
+		boolean firstTurn = true;
+		while (true) {
+			int tag = readTag();
+			boolean turnApplied = tag == GameLog.ROLL || tag == GameLog.MOVE || tag == GameLog.SUGGESTION;
+			if (turnApplied && turnPlayer != null) {
+				turnPlayer.setMovedSuggestion(false);
+				engine.setCurrentSuggestion(null);
+				engine.setCurrentDisprove(null);
+				turnPlayer = null;
+			}
+			switch (tag) {
+			case GameLog.ROLL: {
+				int seat = readVarInt();
+				turnPlayer = readPlayer(engine, seat);
+				int roll = readVarInt();
+				engine.setTurn(seat, roll, firstTurn ? 0 : engine.getNumTurns() + 1);
+				firstTurn = false;
+				break;
+			}
+			case GameLog.MOVE: {
+				Player player = readPlayer(engine, readVarInt());
+				int move = readVarInt();
+				engine.movePlayer(player, readCell(engine, move >>> 1));
+				if ((move & 1) != 0) {
+					player.setMovedSuggestion(true);
+				}
+				break;
+			}
+			case GameLog.SUGGESTION:
+				suggester = readPlayer(engine, readVarInt());
+				engine.setNumSuggestions(engine.getNumSuggestions() + 1);
+				engine.setCurrentSuggestion(readSolution(engine));
+				break;
+			case GameLog.DISPROVE:
+				applyDisprove(engine, suggester);
+				break;
+			case GameLog.ACCUSATION: {
+				Player accuser = readPlayer(engine, readVarInt());
+				Solution accusation = readSolution(engine);
+				accuser.setAccusation(accusation);
+				nextTag = readTag();
+				return new GameResult(accuser, accusation, accusation.equals(answer), engine.getNumTurns(),
+						engine.getNumSuggestions());
+			}
+			case GameLog.START:
+			case -1:
+				nextTag = tag;
+				return new GameResult(null, null, false, engine.getNumTurns(), engine.getNumSuggestions());
+			default:
+				throw new IOException("Unknown game log event " + tag);
+			}
+		}
+	}
+
+	// Show the card to the suggester, or let a computer settle on the suggestion
+	// when nobody could disprove it and the room is not its own
+	private void applyDisprove(GameEngine engine, Player suggester) throws IOException {
+		if (suggester == null) {
+			throw new IOException("Game log disproves before any suggestion");
+		}
+		Solution suggestion = engine.getCurrentSuggestion();
+		int disproverSeat = readVarInt() - 1;
+		if (disproverSeat == -1) {
+			engine.setCurrentDisprove(null);
+			if (!suggester.getHand().contains(suggestion.getRoom())) {
+				suggester.setAccusation(suggestion);
+			}
+			return;
+		}
+		readPlayer(engine, disproverSeat);
+		Card card = readCard(engine);
+		engine.setCurrentDisprove(card);
+		suggester.updateSeen(card);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private Solution readSolution(GameEngine engine) throws IOException {
+		return new Solution(readCard(engine), readCard(engine), readCard(engine));
+	}
+
+	private Card readCard(GameEngine engine) throws IOException {
+		int cardId = readVarInt();
+		if (cardId < 0 || cardId >= engine.getDeck().size()) {
+			throw new IOException("Game log has unknown card " + cardId);
+		}
+		return engine.getCard(cardId);
+	}
+
+	private Player readPlayer(GameEngine engine, int seat) throws IOException {
+		if (seat < 0 || seat >= engine.getPlayers().size()) {
+			throw new IOException("Game log has unknown seat " + seat);
+		}
+		return engine.getPlayers().get(seat);
+	}
+
+	private BoardCell readCell(GameEngine engine, int cellId) throws IOException {
+		if (cellId < 0 || cellId >= engine.getCells().length) {
+			throw new IOException("Game log has unknown cell " + cellId);
+		}
+		return engine.getCell(cellId);
+	}
+
+	private int readVarInt() throws IOException {
+		fill();
+		try {
+			return Varint.getInt(buffer);
+		}
+		catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw badVarint(e);
+		}
+	}
+
+	private long readVarLong() throws IOException {
+		fill();
+		try {
+			return Varint.getLong(buffer);
+		}
+		catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw badVarint(e);
+		}
+	}
+
+	// Only a log cut short runs out of bytes inside a varint
+	private static IOException badVarint(RuntimeException e) {
+		if (e instanceof BufferUnderflowException) {
+			return new EOFException("Game log ends inside an event");
+		}
+		return new IOException("Game log has a bad varint", e);
+	}
+
+	// Tag of the next event, -1 at the end of the log
+	private int readTag() throws IOException {
+		return fill() ? buffer.get() & 0xff : -1;
+	}
+
+	// Make sure the longest varint is buffered, or all that is left of the file.
+	// False once nothing is left.
+	private boolean fill() throws IOException {
+		if (buffer.remaining() < Varint.MAX_LONG_BYTES) {
+			buffer.compact();
+			try {
+				while (buffer.position() < Varint.MAX_LONG_BYTES) {
+					if (channel.read(buffer) < 0) {
+						break;
+					}
+				}
+			}
+			finally {
+				buffer.flip();
+			}
+		}
+		return buffer.hasRemaining();
+	}
+}
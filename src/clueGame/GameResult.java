@@ -0,0 +1,62 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * How a game ended: who accused, what they accused and whether they were
+ * right. A game stopped by the turn limit has no accuser.
+ */
+package clueGame;
+
+public final class GameResult {
+	private final Player accuser;
+	private final Solution accusation;
+	private final boolean correct;
+	private final int numTurns;
+	private final int numSuggestions;
+
+	/**
+	 * @param accuser        Player that made the accusation, null if nobody did
+	 * @param accusation     Cards accused, null if nobody accused
+	 * @param correct        true if the accusation matches the answer
+	 * @param numTurns       Turns played before the game ended
+	 * @param numSuggestions Suggestions made by all players before the game ended
+	 */
+	public GameResult(Player accuser, Solution accusation, boolean correct, int numTurns, int numSuggestions) {
+		super();
+		this.accuser = accuser;
+		this.accusation = accusation;
+		this.correct = correct;
+		this.numTurns = numTurns;
+		this.numSuggestions = numSuggestions;
+	}
+
+	/*
+	 * Getters
+	 */
+	public Player getAccuser() {
+		return accuser;
+	}
+
+	/**
+	 * Player that won, null if the accusation was wrong or nobody accused
+	 */
+	public Player getWinner() {
+		return correct ? accuser : null;
+	}
+
+	public Solution getAccusation() {
+		return accusation;
+	}
+
+	public boolean isCorrect() {
+		return correct;
+	}
+
+	public int getNumTurns() {
+		return numTurns;
+	}
+
+	public int getNumSuggestions() {
+		return numSuggestions;
+	}
+}
@@ -0,0 +1,186 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Plays many computer only games on all cores to compare AI settings. The
+ * config files are read once, every thread builds its own engine from them and
+ * plays its share of the games on it, so threads share no game state. Every
+ * game is seeded from the run seed and its number, so a run or any one game of
+ * it can be played again exactly.
+ */
+package clueGame;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class GameSimulator {
+	public static final int DEFAULT_MAX_TURNS = 10000;
+	private List<String> layoutLines, setupLines;
+	private int maxTurns;
+	private long seed;
+	private Path logDirectory;
+
+	public GameSimulator(String layoutConfigFile, String setupConfigFile) throws FileNotFoundException {
+		super();
+		layoutLines = GameEngine.readConfigLines(layoutConfigFile, "Could not find layout file");
+		setupLines = GameEngine.readConfigLines(setupConfigFile, "Could not find Setup");
+		maxTurns = DEFAULT_MAX_TURNS;
+		seed = GameRandom.newSeed();
+	}
+
+	/**
+	 * Play games split evenly over a pool of threads
+	 *
+	 * @param numGames   Games to play
+	 * @param numThreads Threads to play them on
+	 * @return totals over all games
+	 * @throws BadConfigFormatException if the config files are bad
+	 * @throws IOException              if a game log can not be written
+	 */
+	public SimulationStats run(int numGames, int numThreads) throws BadConfigFormatException, IOException {
+		// Load once here so a bad config fails before any thread starts
+		GameEngine firstEngine = createEngine();
+		String[] seatNames = new String[firstEngine.getPlayers().size()];
+		for (int seat = 0; seat < seatNames.length; seat++) {
+			seatNames[seat] = firstEngine.getPlayers().get(seat).getName();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		List<Future<SimulationStats>> shares = new ArrayList<>();
+		long start = System.nanoTime();
+		try {
+			int firstGame = 0;
+			for (int thread = 0; thread < numThreads; thread++) {
+				int numShare = numGames / numThreads + (thread < numGames % numThreads ? 1 : 0);
+				int firstShareGame = firstGame;
+				shares.add(executor.submit(() -> playGames(firstShareGame, numShare, seatNames)));
+				firstGame += numShare;
+			}
+			SimulationStats total = new SimulationStats(seatNames, maxTurns);
+			for (Future<SimulationStats> share : shares) {
+				total.merge(share.get());
+			}
+			total.setElapsedNanos(System.nanoTime() - start);
+			return total;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Simulation interrupted", e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IllegalStateException("Simulation failed", e.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	// Play a run of games one after another on one engine, run by one thread.
+	// Each thread logs to its own file, named after its first game.
+	private SimulationStats playGames(int firstGame, int numGames, String[] seatNames)
+			throws BadConfigFormatException, IOException {
+		GameEngine engine = createEngine();
+		SimulationStats stats = new SimulationStats(seatNames, maxTurns);
+		if (logDirectory != null) {
+			engine.setGameLog(new GameLog(logDirectory.resolve("games-" + firstGame + ".log")));
+		}
+		try {
+			for (int game = firstGame; game < firstGame + numGames; game++) {
+				engine.newGame(GameRandom.gameSeed(seed, game));
+				GameResult result = engine.playGame(maxTurns);
+				stats.addGame(result, engine.getPlayers().indexOf(result.getWinner()));
+			}
+		}
+		finally {
+			if (engine.getGameLog() != null) {
+				engine.getGameLog().close();
+			}
+		}
+		return stats;
+	}
+
+	/**
+	 * Play one game of the run again on a fresh engine
+	 *
+	 * @param gameIndex Number of the game in the run, from 0
+	 * @return the engine at the end of the game, with the game's result
+	 */
+	public GameEngine replayGame(long gameIndex) throws BadConfigFormatException {
+		GameEngine engine = createEngine();
+		engine.newGame(GameRandom.gameSeed(seed, gameIndex));
+		engine.playGame(maxTurns);
+		return engine;
+	}
+
+	private GameEngine createEngine() throws BadConfigFormatException {
+		GameEngine engine = new GameEngine();
+		engine.setAllComputerPlayers(true);
+		// Every move changes the occupancy, so the cache is cleared faster than it
+		// is hit and only costs time here
+		engine.setTargetCacheCapacity(0);
+		engine.loadSetupConfig(setupLines);
+		engine.loadLayoutConfig(layoutLines);
+		return engine;
+	}
+
+	/*
+	 * Getters and Setters
+	 */
+	public int getMaxTurns() {
+		return maxTurns;
+	}
+
+	/**
+	 * Turns after which a game is stopped without a winner
+	 */
+	public void setMaxTurns(int maxTurns) {
+		this.maxTurns = maxTurns;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Seed the games of the next runs are derived from
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	public Path getLogDirectory() {
+		return logDirectory;
+	}
+
+	/**
+	 * Directory to log the games of the next runs to, null to not log them
+	 */
+	public void setLogDirectory(Path logDirectory) {
+		this.logDirectory = logDirectory;
+	}
+
+	public static void main(String[] args) throws BadConfigFormatException, IOException {
+		int numGames = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int numThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		GameSimulator simulator = new GameSimulator("data/ClueSetup.csv", "data/ClueSetup.txt");
+		if (args.length > 2) {
+			simulator.setSeed(Long.parseLong(args[2]));
+		}
+		if (args.length > 3) {
+			simulator.setLogDirectory(Paths.get(args[3]));
+		}
+		System.out.println("Seed " + simulator.getSeed());
+		System.out.print(simulator.run(numGames, numThreads));
+	}
+}
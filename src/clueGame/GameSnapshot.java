@@ -0,0 +1,307 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Saves a game in progress to bytes and restores it, so idle games can be
+ * parked and brought back. A game a few dozen turns in takes a few hundred
+ * bytes, longer games more as players see cards again. Cards are saved by
+ * their place in the deck and cells by cell id, all as varints. A snapshot
+ * only fits an engine loaded with the same setup and layout.
+ *
+ * The snapshot holds the answer, whose turn it is, the dice and the last
+ * suggestion. For every player it holds their position, hand, seen and unseen
+ * cards and accusation, and for a computer player the rooms it has visited.
+ * The state of every random source is saved too, so the restored game plays on
+ * exactly as the saved one does. Saving only reads the game.
+ */
+package clueGame;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+public final class GameSnapshot {
+	private static final int MAGIC = 0x434c5331;
+	// Bits of the flags saved for each player
+	private static final int PLACED = 1;
+	private static final int MOVED_SUGGESTION = 2;
+	private static final int ACCUSING = 4;
+	private static final int HUMAN = 8;
+
+	private GameSnapshot() {
+	}
+
+	/**
+	 * @param engine Engine with a game in progress
+	 * @return the game as bytes, pass to restore
+	 */
+	public static byte[] save(GameEngine engine) {
+		ByteBuffer buffer = ByteBuffer.allocate(maxSize(engine));
+		save(engine, buffer);
+		return Arrays.copyOf(buffer.array(), buffer.position());
+	}
+
+	/**
+	 * Save the game to a file, replacing what was there
+	 *
+	 * @throws IOException if the file can not be written
+	 */
+	public static void save(GameEngine engine, Path file) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(maxSize(engine));
+		save(engine, buffer);
+		buffer.flip();
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Replace the game on an engine with a saved one. The engine must be loaded
+	 * with the setup and layout the game was saved from, and seat the same kinds
+	 * of players.
+	 *
+	 * @param engine
+	 * @param snapshot Bytes from save
+	 * @throws IllegalArgumentException if the snapshot does not fit the engine or
+	 *                                  is cut short, the engine's game is then
+	 *                                  not usable
+	 */
+	public static void restore(GameEngine engine, byte[] snapshot) {
+		restore(engine, ByteBuffer.wrap(snapshot));
+	}
+
+	/**
+	 * Restore a game saved to a file
+	 *
+	 * @throws IOException if the file can not be read
+	 */
+	public static void restore(GameEngine engine, Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) {
+					throw new EOFException("Snapshot file shrank while reading");
+				}
+			}
+			buffer.flip();
+			restore(engine, buffer);
+		}
+	}
+
+	// Every varint counted at its longest. Seen cards repeat a card each time it
+	// is shown again, so they are counted as they are and grow with the game.
+	private static int maxSize(GameEngine engine) {
+		int numInts = 16;
+		for (Player player : engine.getPlayers()) {
+			numInts += 16 + player.getHand().size() + player.getSeenCards().size() + player.getUnseenCards().size();
+			if (player instanceof ComputerPlayer) {
+				numInts += ((ComputerPlayer) player).getVisitedRooms().size();
+			}
+		}
+		int numRandomLongs = 2 * (2 + engine.getPlayers().size());
+		return 4 + Varint.MAX_LONG_BYTES + 8 * numRandomLongs + Varint.MAX_INT_BYTES * numInts;
+	}
+
+	private static void save(GameEngine engine, ByteBuffer buffer) {
+		buffer.putInt(MAGIC);
+		Varint.putInt(buffer, engine.getDeck().size());
+		Varint.putInt(buffer, engine.getCells().length);
+		Varint.putInt(buffer, engine.getPlayers().size());
+
+		Varint.putLong(buffer, engine.getSeed());
+		// Random bits, varints would only make them longer
+		for (long randomState : engine.getRandomState()) {
+			buffer.putLong(randomState);
+		}
+		Varint.putInt(buffer, engine.getPlayers().indexOf(engine.getCurrentPlayer()));
+		Varint.putInt(buffer, engine.getDiceRoll());
+		Varint.putInt(buffer, engine.getNumTurns());
+		Varint.putInt(buffer, engine.getNumSuggestions());
+		putSolution(engine, buffer, engine.getTheAnswer());
+		Solution suggestion = engine.getCurrentSuggestion();
+		Varint.putInt(buffer, suggestion == null ? 0 : 1);
+		if (suggestion != null) {
+			putSolution(engine, buffer, suggestion);
+		}
+		Card disprove = engine.getCurrentDisprove();
+		Varint.putInt(buffer, disprove == null ? 0 : engine.getCardId(disprove) + 1);
+
+		for (Player player : engine.getPlayers()) {
+			Solution accusation = player.getAccusation();
+			int flags = (engine.getOccupancy().getCell(player) != null ? PLACED : 0)
+					| (player.isMovedSuggestion() ? MOVED_SUGGESTION : 0) | (accusation != null ? ACCUSING : 0)
+					| (player.isHuman() ? HUMAN : 0);
+			Varint.putInt(buffer, flags);
+			Varint.putInt(buffer, player.getRow() * engine.getNumColumns() + player.getColumn());
+			putCards(engine, buffer, player.getHand());
+			putCards(engine, buffer, player.getSeenCards());
+			putCards(engine, buffer, player.getUnseenCards());
+			if (accusation != null) {
+				putSolution(engine, buffer, accusation);
+			}
+			if (player instanceof ComputerPlayer) {
+				// Sorted so the same game always saves to the same bytes
+				Set<BoardCell> visitedRooms = ((ComputerPlayer) player).getVisitedRooms();
+				int[] cellIds = new int[visitedRooms.size()];
+				int numIds = 0;
+				for (BoardCell cell : visitedRooms) {
+					cellIds[numIds++] = engine.getCellId(cell);
+				}
+				Arrays.sort(cellIds);
+				Varint.putInt(buffer, cellIds.length);
+				for (int cellId : cellIds) {
+					Varint.putInt(buffer, cellId);
+				}
+			}
+		}
+	}
+
+	private static void restore(GameEngine engine, ByteBuffer buffer) {
+		try {
+			restoreGame(engine, buffer);
+		}
+		catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Snapshot is cut short", e);
+		}
+	}
+
+	private static void restoreGame(GameEngine engine, ByteBuffer buffer) {
+		if (buffer.remaining() < 4 || buffer.getInt() != MAGIC) {
+			throw new IllegalArgumentException("Not a game snapshot");
+		}
+		int numPlayers = engine.getPlayers().size();
+		if (Varint.getInt(buffer) != engine.getDeck().size() || Varint.getInt(buffer) != engine.getCells().length
+				|| Varint.getInt(buffer) != numPlayers) {
+			throw new IllegalArgumentException("Snapshot was saved from a different setup or layout");
+		}
+
+		long seed = Varint.getLong(buffer);
+		long[] randomState = new long[2 * (2 + numPlayers)];
+		for (int i = 0; i < randomState.length; i++) {
+			randomState[i] = buffer.getLong();
+		}
+		int currentPlayer = Varint.getInt(buffer);
+		if (currentPlayer < 0 || currentPlayer >= numPlayers) {
+			throw new IllegalArgumentException("Snapshot has unknown seat " + currentPlayer);
+		}
+		int diceRoll = Varint.getInt(buffer);
+		int numTurns = Varint.getInt(buffer);
+		int numSuggestions = Varint.getInt(buffer);
+		Solution answer = getSolution(engine, buffer);
+		Solution suggestion = Varint.getInt(buffer) == 0 ? null : getSolution(engine, buffer);
+		int disproveId = Varint.getInt(buffer);
+
+		// Moves made restoring are not events of the game
+		GameLog gameLog = engine.getGameLog();
+		engine.setGameLog(null);
+		try {
+			engine.newGame(seed, answer, Collections.nCopies(numPlayers, Collections.<Card>emptyList()));
+			engine.setRandomState(randomState);
+			engine.setTurn(currentPlayer, diceRoll, numTurns);
+			engine.setNumSuggestions(numSuggestions);
+			engine.setCurrentSuggestion(suggestion);
+			engine.setCurrentDisprove(disproveId == 0 ? null : getCard(engine, disproveId - 1));
+			for (Player player : engine.getPlayers()) {
+				restorePlayer(engine, buffer, player);
+			}
+		}
+		finally {
+			engine.setGameLog(gameLog);
+		}
+	}
+
+	private static void restorePlayer(GameEngine engine, ByteBuffer buffer, Player player) {
+		int flags = Varint.getInt(buffer);
+		if (((flags & HUMAN) != 0) != player.isHuman()) {
+			throw new IllegalArgumentException("Snapshot seats " + player.getName() + " as a different kind of player");
+		}
+		BoardCell cell = getCell(engine, Varint.getInt(buffer));
+		if ((flags & PLACED) != 0) {
+			engine.movePlayer(player, cell);
+		}
+		else {
+			player.setRow(cell.getRow());
+			player.setColumn(cell.getCol());
+		}
+		player.setMovedSuggestion((flags & MOVED_SUGGESTION) != 0);
+
+		for (Card card : getCards(engine, buffer)) {
+			card.setCardHolder(player);
+			player.getHand().add(card);
+		}
+		player.setSeenCards(getCards(engine, buffer));
+		player.setUnseenCards(getCards(engine, buffer));
+		if ((flags & ACCUSING) != 0) {
+			player.setAccusation(getSolution(engine, buffer));
+		}
+		if (player instanceof ComputerPlayer) {
+			ComputerPlayer computer = (ComputerPlayer) player;
+			int numVisited = getCount(buffer);
+			for (int i = 0; i < numVisited; i++) {
+				computer.addVisitedRoom(getCell(engine, Varint.getInt(buffer)));
+			}
+		}
+	}
+
+	private static void putCards(GameEngine engine, ByteBuffer buffer, List<Card> cards) {
+		Varint.putInt(buffer, cards.size());
+		for (Card card : cards) {
+			Varint.putInt(buffer, engine.getCardId(card));
+		}
+	}
+
+	private static ArrayList<Card> getCards(GameEngine engine, ByteBuffer buffer) {
+		int numCards = getCount(buffer);
+		ArrayList<Card> cards = new ArrayList<>(numCards);
+		for (int i = 0; i < numCards; i++) {
+			cards.add(getCard(engine, Varint.getInt(buffer)));
+		}
+		return cards;
+	}
+
+	// Length of a list, each item takes at least a byte
+	private static int getCount(ByteBuffer buffer) {
+		int count = Varint.getInt(buffer);
+		if (count < 0 || count > buffer.remaining()) {
+			throw new IllegalArgumentException("Snapshot has a list of " + count + " items");
+		}
+		return count;
+	}
+
+	private static void putSolution(GameEngine engine, ByteBuffer buffer, Solution solution) {
+		Varint.putInt(buffer, engine.getCardId(solution.getPerson()));
+		Varint.putInt(buffer, engine.getCardId(solution.getRoom()));
+		Varint.putInt(buffer, engine.getCardId(solution.getWeapon()));
+	}
+
+	private static Solution getSolution(GameEngine engine, ByteBuffer buffer) {
+		return new Solution(getCard(engine, Varint.getInt(buffer)), getCard(engine, Varint.getInt(buffer)),
+				getCard(engine, Varint.getInt(buffer)));
+	}
+
+	private static Card getCard(GameEngine engine, int cardId) {
+		if (cardId < 0 || cardId >= engine.getDeck().size()) {
+			throw new IllegalArgumentException("Snapshot has unknown card " + cardId);
+		}
+		return engine.getCard(cardId);
+	}
+
+	private static BoardCell getCell(GameEngine engine, int cellId) {
+		if (cellId < 0 || cellId >= engine.getCells().length) {
+			throw new IllegalArgumentException("Snapshot has unknown cell " + cellId);
+		}
+		return engine.getCell(cellId);
+	}
+}
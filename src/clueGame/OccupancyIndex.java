@@ -0,0 +1,153 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Which cells are occupied and where every player stands, kept as a bitmap over
+ * cell ids and a player to cell map. All occupancy changes go through here so
+ * the cell flags stay in sync and listeners only hear about real changes. Not
+ * thread safe, change it from the game thread.
+ */
+package clueGame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class OccupancyIndex {
+	private BoardCell[] cells;
+	private int numColumns;
+	private long[] occupied;
+	// Players standing on each cell, a room center can hold several
+	private int[] playerCounts;
+	// Cells set occupied directly instead of by a player
+	private long[] marked;
+	private Map<Player, Integer> playerCells;
+	private ArrayList<OccupancyListener> listeners;
+
+	/**
+	 * @param cells      Board cells indexed by cell id
+	 * @param numColumns Number of columns used to number the cells
+	 */
+	public OccupancyIndex(BoardCell[] cells, int numColumns) {
+		super();
+		this.cells = cells;
+		this.numColumns = numColumns;
+		occupied = new long[(cells.length + 63) / 64];
+		marked = new long[occupied.length];
+		playerCounts = new int[cells.length];
+		playerCells = new HashMap<>();
+		listeners = new ArrayList<>();
+	}
+
+	/**
+	 * Move a player to a cell, freeing the cell they were on. A player that is not
+	 * on the board yet is just placed.
+	 *
+	 * @param player
+	 * @param target Cell the player ends up on
+	 */
+	public void movePlayer(Player player, BoardCell target) {
+		int targetId = toCellId(target);
+		Integer fromId = playerCells.put(player, targetId);
+		if (fromId != null) {
+			if (fromId == targetId) {
+				return;
+			}
+			playerCounts[fromId]--;
+			update(fromId);
+		}
+		playerCounts[targetId]++;
+		update(targetId);
+	}
+
+	/**
+	 * Take a player off the board
+	 */
+	public void removePlayer(Player player) {
+		Integer fromId = playerCells.remove(player);
+		if (fromId != null) {
+			playerCounts[fromId]--;
+			update(fromId);
+		}
+	}
+
+	/**
+	 * Mark a cell occupied or free independent of the players on it
+	 */
+	public void setOccupied(BoardCell cell, boolean isOccupied) {
+		int cellId = toCellId(cell);
+		if (isOccupied) {
+			marked[cellId >>> 6] |= 1L << cellId;
+		}
+		else {
+			marked[cellId >>> 6] &= ~(1L << cellId);
+		}
+		update(cellId);
+	}
+
+	/**
+	 * Free every cell and forget all players
+	 */
+	public void clear() {
+		playerCells.clear();
+		Arrays.fill(playerCounts, 0);
+		Arrays.fill(marked, 0);
+		for (int cellId = 0; cellId < cells.length; cellId++) {
+			update(cellId);
+		}
+	}
+
+	// Recompute the occupancy of a cell and notify if it changed
+	private void update(int cellId) {
+		boolean isOccupied = playerCounts[cellId] > 0 || (marked[cellId >>> 6] & (1L << cellId)) != 0;
+		if (isOccupied == isOccupied(cellId)) {
+			return;
+		}
+		occupied[cellId >>> 6] ^= 1L << cellId;
+		cells[cellId].updateOccupied(isOccupied);
+		for (OccupancyListener listener : listeners) {
+			listener.occupancyChanged(cells[cellId], isOccupied);
+		}
+	}
+
+	public boolean isOccupied(int cellId) {
+		return (occupied[cellId >>> 6] & (1L << cellId)) != 0;
+	}
+
+	/**
+	 * Copy of the occupied bitmap, bit cellId of word cellId / 64. Two copies can
+	 * be compared to find the cells that changed between turns.
+	 */
+	public long[] copyOccupied() {
+		return occupied.clone();
+	}
+
+	/**
+	 * Cell a player stands on, or null if the player has not been moved yet
+	 */
+	public BoardCell getCell(Player player) {
+		Integer cellId = playerCells.get(player);
+		return cellId == null ? null : cells[cellId];
+	}
+
+	public int getNumOccupied() {
+		int numOccupied = 0;
+		for (long word : occupied) {
+			numOccupied += Long.bitCount(word);
+		}
+		return numOccupied;
+	}
+
+	public void addListener(OccupancyListener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(OccupancyListener listener) {
+		listeners.remove(listener);
+	}
+
+	private int toCellId(BoardCell cell) {
+		return cell.getRow() * numColumns + cell.getCol();
+	}
+}
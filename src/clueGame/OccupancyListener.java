@@ -0,0 +1,15 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Notified by the occupancy index when a cell becomes occupied or free
+ */
+package clueGame;
+
+public interface OccupancyListener {
+	/**
+	 * @param cell     Cell that changed, its isOccupied is already updated
+	 * @param occupied New occupancy of the cell
+	 */
+	void occupancyChanged(BoardCell cell, boolean occupied);
+}
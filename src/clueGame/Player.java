@@ -9,18 +9,13 @@ package clueGame;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Image;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Random;
 import java.util.Set;
 
-import javax.imageio.ImageIO;
-
 public abstract class Player {
 	private String name;
+	// Converted from colorName on first use, games without a view never load AWT
+	private String colorName;
 	private Color color;
 	private Room currentRoom;
 	protected int row, column;
@@ -29,14 +24,23 @@ public abstract class Player {
 	protected ArrayList<Card> unseenCards;
 	protected boolean isHuman;
 	private boolean movedSuggestion;
+	private String spriteName;
+	private GameRandom random;
 
 	public Player(String name, String color, int row, int column) {
-		this(name, convertStrColor(color), row, column);
+		this(name, row, column);
+		colorName = color;
+		spriteName = getSpriteName(color);
 	}
 
 	public Player(String name, Color color, int row, int column) {
-		this.name = name;
+		this(name, row, column);
 		this.color = color;
+		spriteName = getSpriteName(color);
+	}
+
+	private Player(String name, int row, int column) {
+		this.name = name;
 		this.row = row;
 		this.column = column;
 		hand = new ArrayList<>();
@@ -52,6 +56,10 @@ public abstract class Player {
 		return null;
 	}
 
+	public Solution createSuggestion(Room room) {
+		return null;
+	}
+
 	/**
 	 * Converts a string color to a awt Color
 	 * 
@@ -113,6 +121,55 @@ public abstract class Player {
 		}
 	}
 
+	/**
+	 * File name of the sprite for a player color name, the same sprite the
+	 * converted awt Color gets
+	 * 
+	 * @param color String color
+	 * @return sprite name, or null to draw a plain marker
+	 */
+	private static String getSpriteName(String color) {
+		switch (color) {
+		case "red":
+		case "cyan":
+		case "orange":
+		case "yellow":
+		case "black":
+		case "pink":
+			return color + ".png";
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * File name of the sprite for a player color
+	 * 
+	 * @param color awt Color of the player
+	 * @return sprite name, or null to draw a plain marker
+	 */
+	private static String getSpriteName(Color color) {
+		if (color.equals(new Color(230, 72, 72))) {
+			return "red.png";
+		}
+		else if (color.equals(Color.cyan)) {
+			return "cyan.png";
+		}
+		else if (color.equals(Color.orange)) {
+			return "orange.png";
+		}
+		else if (color.equals(Color.yellow)) {
+			return "yellow.png";
+		}
+		else if (color.equals(new Color(113, 106, 106))) {
+			return "black.png";
+		}
+		else if (color.equals(Color.pink)) {
+			return "pink.png";
+		}
+		return null;
+	}
+
 	/**
 	 * Draw player marker based on position
 	 * 
@@ -122,66 +179,9 @@ public abstract class Player {
 	 */
 	public void draw(Graphics g, int cellWidth, int cellHeight, int offset) {
 
-		// Handle importing from jar or files
-		Image image = null;
-		if (ClueGame.JAR) {
-			try {
-				InputStream is = null;
-				if (color.equals(new Color(230, 72, 72))) {
-					is = getClass().getResourceAsStream("red.png");
-				}
-				else if (color.equals(Color.cyan)) {
-					is = getClass().getResourceAsStream("cyan.png");
-				}
-				else if (color.equals(Color.orange)) {
-					is = getClass().getResourceAsStream("orange.png");
-				}
-				else if (color.equals(Color.yellow)) {
-					is = getClass().getResourceAsStream("yellow.png");
-				}
-				else if (color.equals(new Color(113, 106, 106))) {
-					is = getClass().getResourceAsStream("black.png");
-				}
-				else if (color.equals(Color.pink)) {
-					is = getClass().getResourceAsStream("pink.png");
-				}
-				if (is == null) {
-					throw new FileNotFoundException("Could not find layout file");
-				}
-				image = ImageIO.read(is);
-			}
-			catch (IOException e) {
-				e.printStackTrace();
-			}
-		}
-		else {
-			try {
-				if (color.equals(new Color(230, 72, 72))) {
-					image = ImageIO.read(new File("resources/sprites/red.png"));
-				}
-				else if (color.equals(Color.cyan)) {
-					image = ImageIO.read(new File("resources/sprites/cyan.png"));
-				}
-				else if (color.equals(Color.orange)) {
-					image = ImageIO.read(new File("resources/sprites/orange.png"));
-				}
-				else if (color.equals(Color.yellow)) {
-					image = ImageIO.read(new File("resources/sprites/yellow.png"));
-				}
-				else if (color.equals(new Color(113, 106, 106))) {
-					image = ImageIO.read(new File("resources/sprites/black.png"));
-				}
-				else if (color.equals(Color.pink)) {
-					image = ImageIO.read(new File("resources/sprites/pink.png"));
-				}
-			}
-			catch (IOException e) {
-				e.printStackTrace();
-			}
-		}
-
+		Image image = spriteName == null ? null : SpriteCache.getScaled(spriteName, cellWidth, cellHeight);
 		if (image != null) {
-			g.drawImage(image, column * cellWidth + offset, row * cellHeight, cellWidth, cellHeight, null);
+			g.drawImage(image, column * cellWidth + offset, row * cellHeight, null);
 		}
 		else {
 			g.setColor(getColor());
@@ -214,8 +214,7 @@ public abstract class Player {
 			return matches.get(0);
 		}
 		else if (matches.size() > 1) {
-			Random rand = new Random();
-			return matches.get(rand.nextInt(matches.size()));
+			return matches.get(getRandom().nextInt(matches.size()));
 		}
 		else {
 			return null;
@@ -234,6 +233,20 @@ public abstract class Player {
 		return;
 	}
 
+	/**
+	 * Source of the player's random choices, unseeded unless the engine set one
+	 */
+	protected GameRandom getRandom() {
+		if (random == null) {
+			random = GameRandom.unseeded();
+		}
+		return random;
+	}
+
+	public void setRandom(GameRandom random) {
+		this.random = random;
+	}
+
 	public void setUnseenCards(ArrayList<Card> deck) {
 		unseenCards = new ArrayList<>(deck);
 	}
@@ -243,6 +256,9 @@ public abstract class Player {
 	}
 
 	public Color getColor() {
+		if (color == null) {
+			color = convertStrColor(colorName);
+		}
 		return color;
 	}
 
@@ -283,6 +299,14 @@ public abstract class Player {
 		return seenCards;
 	}
 
+	public void setSeenCards(ArrayList<Card> seenCards) {
+		this.seenCards = new ArrayList<>(seenCards);
+	}
+
+	public ArrayList<Card> getUnseenCards() {
+		return unseenCards;
+	}
+
 	public boolean isHuman() {
 		return isHuman;
 	}
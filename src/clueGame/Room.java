@@ -7,7 +7,6 @@
 package clueGame;
 
 import java.awt.Color;
-import java.awt.Font;
 import java.awt.Graphics;
 import java.util.HashSet;
 import java.util.Set;
@@ -36,7 +35,7 @@ public class Room {
 	 */
 	public void draw(Graphics g, int cellWidth, int cellHeight) {
 		if (isRoom) {
-			g.setFont(new Font("TimesRoman", Font.PLAIN, 25));
+			g.setFont(RoomLabelRenderer.LABEL_FONT);
 			g.setColor(Color.BLACK);
 			g.drawString(name, labelCell.getCol() * cellWidth, (labelCell.getRow() + 1) * cellHeight);
 		}
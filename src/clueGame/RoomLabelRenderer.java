@@ -0,0 +1,105 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Draws the room labels from glyph vectors laid out once per cell size, so a
+ * repaint only blits the glyphs. Labels can optionally shrink to fit the width
+ * of their room.
+ */
+package clueGame;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+
+public class RoomLabelRenderer {
+	public static final Font LABEL_FONT = new Font("TimesRoman", Font.PLAIN, 25);
+	private static final float MIN_FIT_SIZE = 6;
+	private ArrayList<Room> rooms;
+	private Map<Room, Rectangle> roomBounds;
+	private boolean fitToRoom;
+
+	// Layout for the last cell size and render context drawn with
+	private int cellWidth, cellHeight;
+	private FontRenderContext renderContext;
+	private GlyphVector[] labels;
+
+	/**
+	 * @param layoutRooms Rooms of the layout, only real rooms get a label
+	 * @param roomBounds  Cells covered by each room, x is the column and y the row
+	 */
+	public RoomLabelRenderer(Collection<Room> layoutRooms, Map<Room, Rectangle> roomBounds) {
+		super();
+		this.roomBounds = roomBounds;
+		rooms = new ArrayList<>();
+		for (Room room : layoutRooms) {
+			if (room.isRoom() && room.getLabelCell() != null) {
+				rooms.add(room);
+			}
+		}
+		fitToRoom = false;
+	}
+
+	/**
+	 * Draw every label at the given cell size
+	 */
+	public void draw(Graphics g, int cellWidth, int cellHeight) {
+		Graphics2D g2 = (Graphics2D) g;
+		FontRenderContext context = g2.getFontRenderContext();
+		if (labels == null || cellWidth != this.cellWidth || cellHeight != this.cellHeight
+				|| !context.equals(renderContext)) {
+			layoutLabels(context, cellWidth, cellHeight);
+		}
+
+		g.setColor(Color.BLACK);
+		for (int i = 0; i < rooms.size(); i++) {
+			BoardCell labelCell = rooms.get(i).getLabelCell();
+			g2.drawGlyphVector(labels[i], labelCell.getCol() * cellWidth, (labelCell.getRow() + 1) * cellHeight);
+		}
+	}
+
+	private void layoutLabels(FontRenderContext context, int cellWidth, int cellHeight) {
+		this.cellWidth = cellWidth;
+		this.cellHeight = cellHeight;
+		renderContext = context;
+		labels = new GlyphVector[rooms.size()];
+		for (int i = 0; i < rooms.size(); i++) {
+			Room room = rooms.get(i);
+			GlyphVector label = LABEL_FONT.createGlyphVector(context, room.getName());
+			Rectangle bounds = roomBounds.get(room);
+			if (fitToRoom && bounds != null) {
+				// Text width grows with the font size, scale down to the room width
+				// right of the label start
+				double width = label.getLogicalBounds().getWidth();
+				double roomWidth = (double) (bounds.x + bounds.width - room.getLabelCell().getCol()) * cellWidth;
+				if (width > roomWidth) {
+					float size = Math.max(MIN_FIT_SIZE, (float) (LABEL_FONT.getSize2D() * roomWidth / width));
+					label = LABEL_FONT.deriveFont(size).createGlyphVector(context, room.getName());
+				}
+			}
+			labels[i] = label;
+		}
+	}
+
+	/*
+	 * Getters and Setters
+	 */
+	public boolean isFitToRoom() {
+		return fitToRoom;
+	}
+
+	/**
+	 * @param fitToRoom true to shrink labels wider than their room
+	 */
+	public void setFitToRoom(boolean fitToRoom) {
+		this.fitToRoom = fitToRoom;
+		labels = null;
+	}
+}
@@ -0,0 +1,179 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Totals over many simulated games: wins per seat, how long games take and how
+ * many suggestions it takes to solve them. Each simulation thread fills its
+ * own stats and they are merged at the end, so no locking is needed.
+ */
+package clueGame;
+
+public class SimulationStats {
+	private String[] seatNames;
+	private long[] wins;
+	private long numGames, numUnfinished, numWrong;
+	// Games by number of turns played, the last index counts unfinished games
+	private long[] lengthCounts;
+	private long totalTurns;
+	private long solvedSuggestions;
+	private long elapsedNanos;
+
+	/**
+	 * @param seatNames Names of the players by seat
+	 * @param maxTurns  Turn limit of the games
+	 */
+	public SimulationStats(String[] seatNames, int maxTurns) {
+		super();
+		this.seatNames = seatNames;
+		wins = new long[seatNames.length];
+		lengthCounts = new long[maxTurns + 1];
+	}
+
+	/**
+	 * Count one finished game
+	 *
+	 * @param result
+	 * @param winnerSeat Seat of the winner, -1 if nobody won
+	 */
+	public void addGame(GameResult result, int winnerSeat) {
+		numGames++;
+		totalTurns += result.getNumTurns();
+		lengthCounts[Math.min(result.getNumTurns(), lengthCounts.length - 1)]++;
+		if (result.getAccuser() == null) {
+			numUnfinished++;
+		}
+		else if (winnerSeat < 0) {
+			numWrong++;
+		}
+		else {
+			wins[winnerSeat]++;
+			solvedSuggestions += result.getNumSuggestions();
+		}
+	}
+
+	/**
+	 * Add the games of other to these, both must have the same seats and limit
+	 */
+	public void merge(SimulationStats other) {
+		numGames += other.numGames;
+		numUnfinished += other.numUnfinished;
+		numWrong += other.numWrong;
+		totalTurns += other.totalTurns;
+		solvedSuggestions += other.solvedSuggestions;
+		for (int seat = 0; seat < wins.length; seat++) {
+			wins[seat] += other.wins[seat];
+		}
+		for (int turns = 0; turns < lengthCounts.length; turns++) {
+			lengthCounts[turns] += other.lengthCounts[turns];
+		}
+	}
+
+	/**
+	 * Smallest number of turns that at least fraction of the games took
+	 *
+	 * @param fraction 0.5 for the median
+	 */
+	public int getTurnsPercentile(double fraction) {
+		long needed = (long) Math.ceil(fraction * numGames);
+		long seen = 0;
+		for (int turns = 0; turns < lengthCounts.length; turns++) {
+			seen += lengthCounts[turns];
+			if (seen >= needed && seen > 0) {
+				return turns;
+			}
+		}
+		return 0;
+	}
+
+	public int getMaxTurns() {
+		for (int turns = lengthCounts.length - 1; turns > 0; turns--) {
+			if (lengthCounts[turns] > 0) {
+				return turns;
+			}
+		}
+		return 0;
+	}
+
+	/*
+	 * Getters and Setters
+	 */
+	public long getNumGames() {
+		return numGames;
+	}
+
+	public long getNumUnfinished() {
+		return numUnfinished;
+	}
+
+	public long getNumWrong() {
+		return numWrong;
+	}
+
+	public long getNumSolved() {
+		return numGames - numUnfinished - numWrong;
+	}
+
+	public int getNumSeats() {
+		return seatNames.length;
+	}
+
+	public String getSeatName(int seat) {
+		return seatNames[seat];
+	}
+
+	public long getWins(int seat) {
+		return wins[seat];
+	}
+
+	public double getWinRate(int seat) {
+		return numGames == 0 ? 0 : (double) wins[seat] / numGames;
+	}
+
+	/**
+	 * Games by turns played, index maxTurns counts the games cut off by the limit
+	 */
+	public long[] getLengthCounts() {
+		return lengthCounts.clone();
+	}
+
+	public double getMeanTurns() {
+		return numGames == 0 ? 0 : (double) totalTurns / numGames;
+	}
+
+	/**
+	 * Suggestions made by all players in a game, averaged over solved games
+	 */
+	public double getMeanSuggestionsToSolve() {
+		long numSolved = getNumSolved();
+		return numSolved == 0 ? 0 : (double) solvedSuggestions / numSolved;
+	}
+
+	public double getGamesPerSecond() {
+		return elapsedNanos == 0 ? 0 : numGames * 1e9 / elapsedNanos;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public void setElapsedNanos(long elapsedNanos) {
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("%d games in %.2f s, %.0f games per second%n", numGames, elapsedNanos / 1e9,
+				getGamesPerSecond()));
+		for (int seat = 0; seat < seatNames.length; seat++) {
+			report.append(String.format("Seat %d %-10s %6.2f%% wins%n", seat, seatNames[seat], 100 * getWinRate(seat)));
+		}
+		report.append(String.format("Wrong accusations %d, unfinished after %d turns %d%n", numWrong,
+				lengthCounts.length - 1, numUnfinished));
+		report.append(String.format("Turns per game: mean %.1f, median %d, 90th percentile %d, 99th percentile %d, max %d%n",
+				getMeanTurns(), getTurnsPercentile(0.5), getTurnsPercentile(0.9), getTurnsPercentile(0.99),
+				getMaxTurns()));
+		report.append(String.format("Suggestions to solve: mean %.1f%n", getMeanSuggestionsToSolve()));
+		return report.toString();
+	}
+}
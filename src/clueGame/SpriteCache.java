@@ -0,0 +1,112 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Decodes each sprite once and keeps it in memory for painting. Sprites come
+ * from the jar next to the classes or from resources/sprites depending on
+ * ClueGame.JAR. A sprite that fails to load is remembered as missing so it is
+ * not retried every repaint. Scaled copies are kept for the size last asked
+ * for so painting is a plain blit.
+ */
+package clueGame;
+
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+public class SpriteCache {
+	public static final String CAFETERIA = "cafeteria.png";
+	public static final String VENT = "vent.png";
+	private static final String SPRITE_DIRECTORY = "resources/sprites/";
+	private static final Map<String, Optional<Image>> sprites = new ConcurrentHashMap<>();
+	// One scaled copy per sprite, replaced when the size changes
+	private static final Map<String, ScaledSprite> scaledSprites = new ConcurrentHashMap<>();
+
+	private SpriteCache() {
+		super();
+	}
+
+	/**
+	 * Get a sprite, loading it the first time it is asked for
+	 * 
+	 * @param name File name of the sprite
+	 * @return The image or null if it could not be loaded
+	 */
+	public static Image get(String name) {
+		return sprites.computeIfAbsent(name, SpriteCache::load).orElse(null);
+	}
+
+	/**
+	 * Get a sprite scaled to a size. The copy is made once per size, asking for
+	 * a new size drops the copy of the old one.
+	 * 
+	 * @param name   File name of the sprite
+	 * @param width  Width in pixels
+	 * @param height Height in pixels
+	 * @return The scaled image or null if it could not be loaded
+	 */
+	public static Image getScaled(String name, int width, int height) {
+		ScaledSprite scaled = scaledSprites.get(name);
+		if (scaled != null && scaled.width == width && scaled.height == height) {
+			return scaled.image;
+		}
+		Image image = get(name);
+		if (image == null || width <= 0 || height <= 0) {
+			return null;
+		}
+		BufferedImage scaledImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics g = scaledImage.createGraphics();
+		g.drawImage(image, 0, 0, width, height, null);
+		g.dispose();
+		scaledSprites.put(name, new ScaledSprite(width, height, scaledImage));
+		return scaledImage;
+	}
+
+	/**
+	 * Load sprites ahead of the first repaint
+	 */
+	public static void preload(String... names) {
+		for (String name : names) {
+			get(name);
+		}
+	}
+
+	private static class ScaledSprite {
+		private final int width, height;
+		private final Image image;
+
+		public ScaledSprite(int width, int height, Image image) {
+			this.width = width;
+			this.height = height;
+			this.image = image;
+		}
+	}
+
+	private static Optional<Image> load(String name) {
+		try {
+			if (ClueGame.JAR) {
+				InputStream is = SpriteCache.class.getResourceAsStream(name);
+				if (is == null) {
+					throw new FileNotFoundException("Could not find sprite " + name);
+				}
+				try (InputStream in = is) {
+					return Optional.ofNullable(ImageIO.read(in));
+				}
+			}
+			return Optional.ofNullable(ImageIO.read(new File(SPRITE_DIRECTORY + name)));
+		}
+		catch (IOException e) {
+			e.printStackTrace();
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Bounded LRU cache of target searches keyed by start cell, path length and the
+ * occupied cells that can change the result. Safe to share between threads.
+ */
+package clueGame;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TargetCache {
+	public static final int DEFAULT_CAPACITY = 1024;
+	private int capacity;
+	private Key probe;
+	private int maxPathLength;
+	private long occupancyVersion;
+
+	// Cached targets for every occupancy pattern seen, least recently used first
+	private LinkedHashMap<Key, int[]> entries;
+	// Occupied cells around a start for the current occupancy, keyed with
+	// signature 0. Dropped by cellChanged when a nearby cell changes.
+	private Map<Key, int[]> currentBlockers;
+
+	private long hits, misses, evictions;
+
+	public TargetCache(int capacity) {
+		super();
+		this.capacity = capacity;
+		probe = new Key();
+		maxPathLength = 0;
+		currentBlockers = new HashMap<>();
+		entries = new LinkedHashMap<Key, int[]>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, int[]> eldest) {
+				if (size() > TargetCache.this.capacity) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Fill targets from the cache, running the finder on a miss. The lock is only
+	 * held for the map lookups, searches run on the caller's finder outside it.
+	 *
+	 * @param finder     Finder of the calling thread
+	 * @param startId    id of the start cell
+	 * @param pathLength Max travel distance
+	 * @param targets    Set that is cleared and filled with the targets
+	 */
+	public void findTargets(TargetFinder finder, int startId, int pathLength, CellSet targets) {
+		long version;
+		int[] occupied;
+		synchronized (this) {
+			if (capacity <= 0) {
+				occupied = null;
+				version = -1;
+			}
+			else {
+				version = occupancyVersion;
+				probe.set(startId, pathLength, 0);
+				occupied = currentBlockers.get(probe);
+			}
+		}
+		if (version < 0) {
+			finder.findTargets(startId, pathLength, targets);
+			return;
+		}
+
+		// Occupied cells that influence a search from the current board state
+		if (occupied == null) {
+			occupied = finder.findBlockers(startId, pathLength);
+			synchronized (this) {
+				if (version == occupancyVersion) {
+					currentBlockers.put(new Key(startId, pathLength, 0), occupied);
+					maxPathLength = Math.max(maxPathLength, pathLength);
+				}
+			}
+		}
+
+		int signature = Arrays.hashCode(occupied);
+		int[] entry;
+		synchronized (this) {
+			probe.set(startId, pathLength, signature);
+			entry = entries.get(probe);
+			// Signatures can collide, check the occupied cells match
+			if (entry != null && entry[0] == occupied.length
+					&& Arrays.equals(occupied, 0, occupied.length, entry, 1, occupied.length + 1)) {
+				hits++;
+			}
+			else {
+				entry = null;
+				misses++;
+			}
+		}
+
+		if (entry != null) {
+			targets.clear();
+			for (int i = occupied.length + 1; i < entry.length; i++) {
+				targets.addId(entry[i]);
+			}
+			return;
+		}
+
+		finder.findTargets(startId, pathLength, targets);
+		// Entry holds the number of occupied cells, the cells, then the targets
+		entry = new int[1 + occupied.length + targets.size()];
+		entry[0] = occupied.length;
+		System.arraycopy(occupied, 0, entry, 1, occupied.length);
+		for (int i = 0; i < targets.size(); i++) {
+			entry[1 + occupied.length + i] = targets.getId(i);
+		}
+		synchronized (this) {
+			// Skip results that raced with an occupancy change
+			if (version == occupancyVersion) {
+				entries.put(new Key(startId, pathLength, signature), entry);
+			}
+		}
+	}
+
+	/**
+	 * Called when a cell changes occupancy. Only searches that start within their
+	 * path length of the cell are affected. Their cached targets stay valid for
+	 * the old occupancy, but the occupancy they are looked up with is recomputed.
+	 *
+	 * @param finder Finder of the calling thread
+	 * @param cellId Cell that changed
+	 */
+	public synchronized void cellChanged(TargetFinder finder, int cellId) {
+		occupancyVersion++;
+		if (currentBlockers.isEmpty()) {
+			return;
+		}
+		int areaSize = finder.searchArea(cellId, maxPathLength);
+		for (int i = 0; i < areaSize; i++) {
+			int startId = finder.getAreaCell(i);
+			for (int pathLength = Math.max(1, finder.getAreaDistance(i)); pathLength <= maxPathLength; pathLength++) {
+				probe.set(startId, pathLength, 0);
+				currentBlockers.remove(probe);
+			}
+		}
+	}
+
+	public synchronized void clear() {
+		occupancyVersion++;
+		entries.clear();
+		currentBlockers.clear();
+		maxPathLength = 0;
+	}
+
+	/*
+	 * Getters and Setters
+	 */
+	public synchronized void setCapacity(int capacity) {
+		this.capacity = capacity;
+		if (capacity <= 0) {
+			clear();
+			return;
+		}
+		// Evict down to the new size, oldest first
+		while (entries.size() > capacity) {
+			Key eldest = entries.keySet().iterator().next();
+			entries.remove(eldest);
+			evictions++;
+		}
+	}
+
+	public synchronized int getCapacity() {
+		return capacity;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	public synchronized void resetCounters() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/**
+	 * Cache key, mutable so lookups can reuse one probe instance
+	 */
+	private static class Key {
+		private int startId, pathLength, signature;
+
+		public Key() {
+			super();
+		}
+
+		public Key(int startId, int pathLength, int signature) {
+			set(startId, pathLength, signature);
+		}
+
+		public void set(int startId, int pathLength, int signature) {
+			this.startId = startId;
+			this.pathLength = pathLength;
+			this.signature = signature;
+		}
+
+		@Override
+		public boolean equals(Object target) {
+			if (target == this) {
+				return true;
+			}
+			if (target instanceof Key) {
+				Key targetKey = (Key) target;
+				return targetKey.startId == startId && targetKey.pathLength == pathLength
+						&& targetKey.signature == signature;
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return (startId * 31 + pathLength) * 31 + signature;
+		}
+	}
+}
@@ -0,0 +1,315 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Target search over the adjacency graph that reuses its scratch buffers. A
+ * finder is not thread safe, each thread should use its own.
+ */
+package clueGame;
+
+import java.util.Arrays;
+
+public class TargetFinder {
+	private AdjacencyGraph graph;
+	private BoardCell[] cells;
+	private long[] visited;
+	private int[] cellStack;
+	private int[] edgeStack;
+
+	// Precomputed targets and the buffers used to correct them for occupancy
+	private TargetTable targetTable;
+	private int[] queue;
+	private int[] distances;
+	private int[] distanceStamps;
+	private int stamp;
+	private int[] blockers;
+
+	public TargetFinder(AdjacencyGraph graph, BoardCell[] cells) {
+		this(graph, cells, null);
+	}
+
+	public TargetFinder(AdjacencyGraph graph, BoardCell[] cells, TargetTable targetTable) {
+		super();
+		this.graph = graph;
+		this.cells = cells;
+		this.targetTable = targetTable;
+		visited = new long[(graph.getNumCells() + 63) / 64];
+		// A path never visits a cell twice so it is at most numCells long
+		cellStack = new int[graph.getNumCells() + 1];
+		edgeStack = new int[graph.getNumCells() + 1];
+		queue = new int[graph.getNumCells()];
+		distances = new int[graph.getNumCells()];
+		distanceStamps = new int[graph.getNumCells()];
+		stamp = 0;
+		blockers = new int[graph.getNumCells()];
+	}
+
+	/**
+	 * Determine reachable cells based on start cell, pathlength, and cell types.
+	 * Uses the target table when the occupied cells cannot change the result.
+	 *
+	 * @param startId    id of the start cell
+	 * @param pathLength Max travel distance
+	 * @param targets    Set that is cleared and filled with the targets
+	 */
+	public void findTargets(int startId, int pathLength, CellSet targets) {
+		if (targetTable != null && targetTable.covers(cells[startId], pathLength)
+				&& findTableTargets(startId, pathLength, targets)) {
+			return;
+		}
+		findTargets(startId, pathLength, targets, true);
+	}
+
+	/**
+	 * Look up the precomputed targets and remove occupied cells from them. An
+	 * occupied cell closer than pathLength may block paths, in which case the
+	 * table cannot be used. One exactly pathLength away can only be reached on
+	 * the last step so it is simply not a target.
+	 *
+	 * @return false if the search has to fall back to the full DFS
+	 */
+	private boolean findTableTargets(int startId, int pathLength, CellSet targets) {
+		int areaSize = searchArea(startId, pathLength);
+		for (int i = 1; i < areaSize; i++) {
+			int cellId = queue[i];
+			if (distances[cellId] < pathLength && cells[cellId].isOccupied() && !cells[cellId].isRoom()) {
+				return false;
+			}
+		}
+
+		targets.clear();
+		int[] targetIds = targetTable.getTargetIds();
+		for (int i = targetTable.getStart(startId, pathLength); i < targetTable.getEnd(startId, pathLength); i++) {
+			BoardCell target = cells[targetIds[i]];
+			if (target.isRoom() || !target.isOccupied()) {
+				targets.addId(targetIds[i]);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Collect the occupied cells that can change the targets of a search. These
+	 * are the walkways within pathLength of the start, in breadth first order so
+	 * the same occupancy always gives the same array.
+	 *
+	 * @return ids of the occupied cells
+	 */
+	public int[] findBlockers(int startId, int pathLength) {
+		int areaSize = searchArea(startId, pathLength);
+		int numBlockers = 0;
+		for (int i = 1; i < areaSize; i++) {
+			int cellId = queue[i];
+			if (cells[cellId].isOccupied() && !cells[cellId].isRoom()) {
+				blockers[numBlockers++] = cellId;
+			}
+		}
+		return Arrays.copyOf(blockers, numBlockers);
+	}
+
+	/**
+	 * Breadth first search out to maxDistance ignoring occupancy. Rooms end a path
+	 * so they are reached but not expanded, except for the start cell. Since the
+	 * walkway, door and room center adjacencies all go both ways the area is also
+	 * the set of cells that can reach the start.
+	 *
+	 * @return number of cells found, read with getAreaCell and getAreaDistance
+	 */
+	public int searchArea(int startId, int maxDistance) {
+		int[] offsets = graph.getOffsets();
+		int[] neighbors = graph.getNeighbors();
+		nextStamp();
+
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = startId;
+		distances[startId] = 0;
+		distanceStamps[startId] = stamp;
+		while (head < tail) {
+			int cellId = queue[head++];
+			int distance = distances[cellId];
+			if (distance == maxDistance || (cellId != startId && cells[cellId].isRoom())) {
+				continue;
+			}
+			for (int i = offsets[cellId]; i < offsets[cellId + 1]; i++) {
+				int adjId = neighbors[i];
+				if (distanceStamps[adjId] != stamp) {
+					distanceStamps[adjId] = stamp;
+					distances[adjId] = distance + 1;
+					queue[tail++] = adjId;
+				}
+			}
+		}
+		return tail;
+	}
+
+	public int getAreaCell(int index) {
+		return queue[index];
+	}
+
+	public int getAreaDistance(int index) {
+		return distances[queue[index]];
+	}
+
+	private void nextStamp() {
+		stamp++;
+		if (stamp == 0) {
+			// Stamp wrapped around, old stamps could match again
+			Arrays.fill(distanceStamps, 0);
+			stamp = 1;
+		}
+	}
+
+	/**
+	 * Determine reachable cells based on start cell, pathlength, and cell types
+	 * with a depth first search. Same rules as the recursive search: rooms end a
+	 * path, occupied cells block it.
+	 *
+	 * @param startId        id of the start cell
+	 * @param pathLength     Max travel distance
+	 * @param targets        Set that is cleared and filled with the targets
+	 * @param checkOccupancy false to treat every cell as unoccupied
+	 */
+	public void findTargets(int startId, int pathLength, CellSet targets, boolean checkOccupancy) {
+		int[] offsets = graph.getOffsets();
+		int[] neighbors = graph.getNeighbors();
+		targets.clear();
+
+		int depth = 0;
+		cellStack[0] = startId;
+		edgeStack[0] = offsets[startId];
+		setVisited(startId);
+
+		while (depth >= 0) {
+			int cellId = cellStack[depth];
+			if (edgeStack[depth] == offsets[cellId + 1]) {
+				// All adjacencies checked, backtrack
+				clearVisited(cellId);
+				depth--;
+				continue;
+			}
+
+			int adjId = neighbors[edgeStack[depth]++];
+			if (isVisited(adjId)) {
+				continue;
+			}
+			BoardCell adjCell = cells[adjId];
+			int numSteps = pathLength - depth;
+			boolean occupied = checkOccupancy && adjCell.isOccupied();
+			if ((numSteps == 1 && !occupied) || adjCell.isRoom()) {
+				targets.addId(adjId);
+			}
+			else if (!occupied) {
+				depth++;
+				cellStack[depth] = adjId;
+				edgeStack[depth] = offsets[adjId];
+				setVisited(adjId);
+			}
+		}
+	}
+
+	/**
+	 * Find the targets of every path length from 1 to maxPathLength with one DFS.
+	 * A room reached after k steps is a target of every length from k on, a
+	 * walkway only of length k, and the paths leading there are shared.
+	 *
+	 * @param startId       id of the start cell
+	 * @param maxPathLength Longest travel distance
+	 * @param targets       Sets for each length, targets[k] is cleared and filled
+	 *                      with the targets of length k. Index 0 is not used.
+	 */
+	public void findAllTargets(int startId, int maxPathLength, CellSet[] targets) {
+		int[] offsets = graph.getOffsets();
+		int[] neighbors = graph.getNeighbors();
+		for (int length = 1; length <= maxPathLength; length++) {
+			targets[length].clear();
+		}
+
+		// Short rolls with no occupied cell in the way come from the table
+		int firstSearched = 1;
+		if (targetTable != null && targetTable.covers(cells[startId], 1)) {
+			firstSearched = findAllTableTargets(startId, maxPathLength, targets);
+		}
+		if (firstSearched > maxPathLength) {
+			return;
+		}
+
+		int depth = 0;
+		cellStack[0] = startId;
+		edgeStack[0] = offsets[startId];
+		setVisited(startId);
+
+		while (depth >= 0) {
+			int cellId = cellStack[depth];
+			if (edgeStack[depth] == offsets[cellId + 1]) {
+				clearVisited(cellId);
+				depth--;
+				continue;
+			}
+
+			int adjId = neighbors[edgeStack[depth]++];
+			if (isVisited(adjId)) {
+				continue;
+			}
+			BoardCell adjCell = cells[adjId];
+			int steps = depth + 1;
+			if (adjCell.isRoom()) {
+				for (int length = Math.max(steps, firstSearched); length <= maxPathLength; length++) {
+					targets[length].addId(adjId);
+				}
+			}
+			else if (!adjCell.isOccupied()) {
+				if (steps >= firstSearched) {
+					targets[steps].addId(adjId);
+				}
+				if (steps < maxPathLength) {
+					depth++;
+					cellStack[depth] = adjId;
+					edgeStack[depth] = offsets[adjId];
+					setVisited(adjId);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fill the targets of every roll the table can answer, which are the rolls no
+	 * longer than the distance to the closest occupied walkway
+	 *
+	 * @return the first path length that still has to be searched
+	 */
+	private int findAllTableTargets(int startId, int maxPathLength, CellSet[] targets) {
+		int maxTableLength = Math.min(maxPathLength, TargetTable.MAX_ROLL);
+		int areaSize = searchArea(startId, maxTableLength);
+		int closestBlocker = maxTableLength;
+		for (int i = 1; i < areaSize; i++) {
+			int cellId = queue[i];
+			if (cells[cellId].isOccupied() && !cells[cellId].isRoom()) {
+				closestBlocker = Math.min(closestBlocker, distances[cellId]);
+			}
+		}
+
+		int[] targetIds = targetTable.getTargetIds();
+		for (int length = 1; length <= closestBlocker; length++) {
+			for (int i = targetTable.getStart(startId, length); i < targetTable.getEnd(startId, length); i++) {
+				BoardCell target = cells[targetIds[i]];
+				if (target.isRoom() || !target.isOccupied()) {
+					targets[length].addId(targetIds[i]);
+				}
+			}
+		}
+		return closestBlocker + 1;
+	}
+
+	private boolean isVisited(int cellId) {
+		return (visited[cellId >>> 6] & (1L << cellId)) != 0;
+	}
+
+	private void setVisited(int cellId) {
+		visited[cellId >>> 6] |= 1L << cellId;
+	}
+
+	private void clearVisited(int cellId) {
+		visited[cellId >>> 6] &= ~(1L << cellId);
+	}
+}
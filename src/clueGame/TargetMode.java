@@ -0,0 +1,12 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ * 
+ * How Board calculates targets. PATHS only counts paths that never visit a cell
+ * twice, WALKS uses the bitboard search which allows revisiting cells.
+ */
+package clueGame;
+
+public enum TargetMode {
+	PATHS, WALKS;
+}
@@ -0,0 +1,93 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ * 
+ * Report of where the WALKS target mode gives different targets than PATHS
+ */
+package clueGame;
+
+public class TargetModeComparison {
+	private int numSearches, numDifferent;
+	private StringBuilder details;
+
+	/**
+	 * Compare both target modes from every walkway and room center for every roll
+	 * up to maxRoll, with the board's current occupancy
+	 * 
+	 * @param board   Initialized board
+	 * @param maxRoll Largest roll to check
+	 */
+	public TargetModeComparison(Board board, int maxRoll) {
+		super();
+		details = new StringBuilder();
+		AdjacencyGraph graph = board.getAdjacencyGraph();
+		TargetFinder finder = new TargetFinder(graph, cellsOf(board));
+		BitboardTargetFinder bitboardFinder = board.getBitboardTargetFinder();
+		CellSet paths = new CellSet(cellsOf(board), board.getNumColumns());
+		CellSet walks = new CellSet(cellsOf(board), board.getNumColumns());
+
+		for (int cellId = 0; cellId < graph.getNumCells(); cellId++) {
+			BoardCell startCell = board.getCell(cellId);
+			if (!bitboardFinder.supports(startCell)) {
+				continue;
+			}
+			for (int roll = 1; roll <= maxRoll; roll++) {
+				finder.findTargets(cellId, roll, paths, true);
+				bitboardFinder.findTargets(graph, cellId, roll, walks);
+				numSearches++;
+				if (!paths.equals(walks)) {
+					numDifferent++;
+					details.append(describe(startCell, roll, walks, paths, "walks only"));
+					details.append(describe(startCell, roll, paths, walks, "paths only"));
+				}
+			}
+		}
+	}
+
+	// List the cells in first that are not in second
+	private String describe(BoardCell startCell, int roll, CellSet first, CellSet second, String label) {
+		StringBuilder line = new StringBuilder();
+		for (BoardCell cell : first) {
+			if (!second.contains(cell)) {
+				line.append(" (").append(cell.getRow()).append(", ").append(cell.getCol()).append(")");
+			}
+		}
+		if (line.length() == 0) {
+			return "";
+		}
+		return "(" + startCell.getRow() + ", " + startCell.getCol() + ") roll " + roll + " " + label + ":" + line
+				+ "\n";
+	}
+
+	private static BoardCell[] cellsOf(Board board) {
+		BoardCell[] cells = new BoardCell[board.getNumRows() * board.getNumColumns()];
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = board.getCell(i);
+		}
+		return cells;
+	}
+
+	/*
+	 * Getters
+	 */
+	public int getNumSearches() {
+		return numSearches;
+	}
+
+	public int getNumDifferent() {
+		return numDifferent;
+	}
+
+	@Override
+	public String toString() {
+		return numDifferent + " of " + numSearches + " searches differ\n" + details;
+	}
+
+	public static void main(String[] args) {
+		Board board = Board.getInstance();
+		board.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		board.initialize();
+		int maxRoll = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+		System.out.println(new TargetModeComparison(board, maxRoll));
+	}
+}
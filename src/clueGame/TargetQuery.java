@@ -0,0 +1,149 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ * 
+ * Reentrant target queries for one board layout. Every thread gets its own
+ * search buffers, the layout data is read only and results are immutable, so
+ * any number of threads can query at once.
+ */
+package clueGame;
+
+public class TargetQuery implements OccupancyListener {
+	private final AdjacencyGraph graph;
+	private final BoardCell[] cells;
+	private final TargetCache cache;
+	private final BitboardTargetFinder bitboardFinder;
+	private final ThreadLocal<TargetFinder> finders;
+	private final ThreadLocal<CellSet> buffers;
+	private final ThreadLocal<CellSet[]> rollBuffers;
+
+	public TargetQuery(AdjacencyGraph graph, BoardCell[] cells, TargetTable table, TargetCache cache,
+			BitboardTargetFinder bitboardFinder) {
+		super();
+		this.graph = graph;
+		this.cells = cells;
+		this.cache = cache;
+		this.bitboardFinder = bitboardFinder;
+		finders = ThreadLocal.withInitial(() -> new TargetFinder(graph, cells, table));
+		buffers = ThreadLocal.withInitial(() -> new CellSet(cells, graph.getNumColumns()));
+		rollBuffers = ThreadLocal.withInitial(() -> new CellSet[0]);
+	}
+
+	/**
+	 * Calculate the targets of a move using simple paths
+	 * 
+	 * @param startCell
+	 * @param pathLength Max travel distance
+	 * @return Immutable targets
+	 */
+	public TargetResult query(BoardCell startCell, int pathLength) {
+		return query(startCell, pathLength, TargetMode.PATHS);
+	}
+
+	/**
+	 * Calculate the targets of a move
+	 * 
+	 * @param startCell
+	 * @param pathLength Max travel distance
+	 * @param mode       PATHS or WALKS
+	 * @return Immutable targets
+	 */
+	public TargetResult query(BoardCell startCell, int pathLength, TargetMode mode) {
+		int startId = graph.getCellId(startCell.getRow(), startCell.getCol());
+		CellSet buffer = buffers.get();
+		findTargets(startId, pathLength, mode, buffer);
+		return new TargetResult(cells, graph.getNumColumns(), startId, pathLength, buffer);
+	}
+
+	/**
+	 * Calculate the targets of every roll from 1 to maxPathLength using simple
+	 * paths
+	 * 
+	 * @param startCell
+	 * @param maxPathLength Longest travel distance
+	 * @return Immutable targets indexed by path length, index 0 is empty
+	 */
+	public TargetResult[] queryAllRolls(BoardCell startCell, int maxPathLength) {
+		return queryAllRolls(startCell, maxPathLength, TargetMode.PATHS);
+	}
+
+	/**
+	 * Calculate the targets of every roll from 1 to maxPathLength, the same
+	 * targets query gives for each roll. Simple paths are found in one pass,
+	 * cheaper than one query per roll since the searches share their paths.
+	 * Walks are one bitboard search per roll.
+	 * 
+	 * @param startCell
+	 * @param maxPathLength Longest travel distance
+	 * @param mode          PATHS or WALKS
+	 * @return Immutable targets indexed by path length, index 0 is empty
+	 */
+	public TargetResult[] queryAllRolls(BoardCell startCell, int maxPathLength, TargetMode mode) {
+		int startId = graph.getCellId(startCell.getRow(), startCell.getCol());
+		CellSet[] buffers = rollBuffers.get();
+		if (buffers.length <= maxPathLength) {
+			buffers = new CellSet[maxPathLength + 1];
+			for (int length = 1; length <= maxPathLength; length++) {
+				buffers[length] = new CellSet(cells, graph.getNumColumns());
+			}
+			rollBuffers.set(buffers);
+		}
+		if (mode == TargetMode.WALKS && bitboardFinder.supports(startCell)) {
+			for (int length = 1; length <= maxPathLength; length++) {
+				bitboardFinder.findTargets(graph, startId, length, buffers[length]);
+			}
+		}
+		else {
+			finders.get().findAllTargets(startId, maxPathLength, buffers);
+		}
+
+		TargetResult[] results = new TargetResult[maxPathLength + 1];
+		results[0] = empty();
+		for (int length = 1; length <= maxPathLength; length++) {
+			results[length] = new TargetResult(cells, graph.getNumColumns(), startId, length, buffers[length]);
+		}
+		return results;
+	}
+
+	/**
+	 * Allocation free variant of query for hot loops. The caller owns targets and
+	 * must not share it between threads.
+	 * 
+	 * @param startId    id of the start cell
+	 * @param pathLength Max travel distance
+	 * @param mode       PATHS or WALKS
+	 * @param targets    Set that is cleared and filled with the targets
+	 */
+	public void findTargets(int startId, int pathLength, TargetMode mode, CellSet targets) {
+		if (mode == TargetMode.WALKS && bitboardFinder.supports(cells[startId])) {
+			bitboardFinder.findTargets(graph, startId, pathLength, targets);
+		}
+		else {
+			cache.findTargets(finders.get(), startId, pathLength, targets);
+		}
+	}
+
+	/**
+	 * Update the occupancy dependent state after a cell changed
+	 */
+	public void cellChanged(BoardCell cell) {
+		cache.cellChanged(finders.get(), graph.getCellId(cell.getRow(), cell.getCol()));
+		bitboardFinder.setOccupied(cell, cell.isOccupied());
+	}
+
+	@Override
+	public void occupancyChanged(BoardCell cell, boolean occupied) {
+		cellChanged(cell);
+	}
+
+	/**
+	 * Search buffers of the calling thread, for code that runs its own searches
+	 */
+	public TargetFinder getFinder() {
+		return finders.get();
+	}
+
+	public TargetResult empty() {
+		return TargetResult.empty(cells, graph.getNumColumns());
+	}
+}
@@ -0,0 +1,121 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ * 
+ * Immutable set of targets returned by a TargetQuery. Cells are kept as sorted
+ * cell ids so the result stays small and can be shared between threads.
+ */
+package clueGame;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public final class TargetResult extends AbstractSet<BoardCell> {
+	private final BoardCell[] cells;
+	private final int numColumns;
+	private final int startId;
+	private final int pathLength;
+	private final int[] targetIds;
+
+	/**
+	 * @param cells      Board cells indexed by cell id
+	 * @param numColumns Number of columns used to number the cells
+	 * @param startId    id of the start cell, -1 if there is none
+	 * @param pathLength Max travel distance of the search
+	 * @param targetIds  ids of the targets, copied
+	 */
+	public TargetResult(BoardCell[] cells, int numColumns, int startId, int pathLength, int[] targetIds) {
+		super();
+		this.cells = cells;
+		this.numColumns = numColumns;
+		this.startId = startId;
+		this.pathLength = pathLength;
+		this.targetIds = targetIds.clone();
+		Arrays.sort(this.targetIds);
+	}
+
+	/**
+	 * Copy the targets out of a search buffer
+	 */
+	public TargetResult(BoardCell[] cells, int numColumns, int startId, int pathLength, CellSet targets) {
+		this(cells, numColumns, startId, pathLength, targets.toIdArray());
+	}
+
+	/**
+	 * An empty result for a board
+	 */
+	public static TargetResult empty(BoardCell[] cells, int numColumns) {
+		return new TargetResult(cells, numColumns, -1, 0, new int[0]);
+	}
+
+	/**
+	 * Returns a new result that also contains cell
+	 */
+	public TargetResult with(BoardCell cell) {
+		if (contains(cell)) {
+			return this;
+		}
+		int[] ids = Arrays.copyOf(targetIds, targetIds.length + 1);
+		ids[targetIds.length] = toCellId(cell);
+		return new TargetResult(cells, numColumns, startId, pathLength, ids);
+	}
+
+	public boolean containsId(int cellId) {
+		return Arrays.binarySearch(targetIds, cellId) >= 0;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof BoardCell)) {
+			return false;
+		}
+		int cellId = toCellId((BoardCell) o);
+		return cellId >= 0 && cellId < cells.length && cells[cellId] == o && containsId(cellId);
+	}
+
+	@Override
+	public int size() {
+		return targetIds.length;
+	}
+
+	@Override
+	public Iterator<BoardCell> iterator() {
+		return new Iterator<BoardCell>() {
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return index < targetIds.length;
+			}
+
+			@Override
+			public BoardCell next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return cells[targetIds[index++]];
+			}
+		};
+	}
+
+	private int toCellId(BoardCell cell) {
+		return cell.getRow() * numColumns + cell.getCol();
+	}
+
+	/*
+	 * Getters
+	 */
+	public int getStartId() {
+		return startId;
+	}
+
+	public int getPathLength() {
+		return pathLength;
+	}
+
+	public int[] getTargetIds() {
+		return targetIds.clone();
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Table of targets for every walkable start cell and every dice roll, computed
+ * once per layout while ignoring occupancy. TargetFinder corrects the entries
+ * for occupied cells at query time.
+ */
+package clueGame;
+
+import java.util.Arrays;
+
+public class TargetTable {
+	public static final int MAX_ROLL = 6;
+	private int[] offsets;
+	private int[] targetIds;
+
+	/**
+	 * Build the table for a freshly loaded layout
+	 *
+	 * @param graph Adjacency graph of the layout
+	 * @param cells Board cells indexed by cell id
+	 */
+	public TargetTable(AdjacencyGraph graph, BoardCell[] cells) {
+		super();
+		int numCells = graph.getNumCells();
+		TargetFinder finder = new TargetFinder(graph, cells);
+		CellSet targets = new CellSet(cells, graph.getNumColumns());
+
+		offsets = new int[numCells * MAX_ROLL + 1];
+		targetIds = new int[numCells * MAX_ROLL];
+		int numTargets = 0;
+		for (int cellId = 0; cellId < numCells; cellId++) {
+			for (int roll = 1; roll <= MAX_ROLL; roll++) {
+				int entry = cellId * MAX_ROLL + roll - 1;
+				offsets[entry] = numTargets;
+				if (!isWalkable(cells[cellId])) {
+					continue;
+				}
+
+				finder.findTargets(cellId, roll, targets, false);
+				if (numTargets + targets.size() > targetIds.length) {
+					targetIds = Arrays.copyOf(targetIds, Math.max(targetIds.length * 2, numTargets + targets.size()));
+				}
+				for (int i = 0; i < targets.size(); i++) {
+					targetIds[numTargets++] = targets.getId(i);
+				}
+			}
+		}
+		offsets[numCells * MAX_ROLL] = numTargets;
+		targetIds = Arrays.copyOf(targetIds, numTargets);
+	}
+
+	/**
+	 * Players only ever start a move on a walkway or in the center of a room
+	 */
+	public static boolean isWalkable(BoardCell cell) {
+		return cell.isWalkway() || cell.isRoomCenter();
+	}
+
+	/**
+	 * Check if the table has an entry for a start cell and roll
+	 */
+	public boolean covers(BoardCell startCell, int roll) {
+		return roll >= 1 && roll <= MAX_ROLL && isWalkable(startCell);
+	}
+
+	/*
+	 * Getters, the targets of an entry are targetIds[getStart()] up to
+	 * targetIds[getEnd()]
+	 */
+	public int getStart(int cellId, int roll) {
+		return offsets[cellId * MAX_ROLL + roll - 1];
+	}
+
+	public int getEnd(int cellId, int roll) {
+		return offsets[cellId * MAX_ROLL + roll];
+	}
+
+	public int[] getTargetIds() {
+		return targetIds;
+	}
+}
@@ -0,0 +1,222 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Expected number of turns to get from each room to each other room when every
+ * turn moves a uniform roll of 1 to 6. Players are assumed to always pick the
+ * target that gets them there soonest and other players are ignored. Rooms that
+ * can not be reached are infinitely far. Saved next to the layout file and
+ * reused until the layout changes.
+ */
+package clueGame;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+public class TravelTimeMatrix {
+	public static final String FILE_EXTENSION = ".turns";
+	// Changed whenever the saved values change meaning, so old files are redone
+	private static final int FILE_MAGIC = 0x434C5546;
+	private static final double TOLERANCE = 1e-9;
+	private static final int MAX_ITERATIONS = 10000;
+	private char[] roomInitials;
+	private byte[] layoutHash;
+	// expectedTurns[fromRoom * numRooms + toRoom]
+	private double[] expectedTurns;
+	private DistanceOracle rooms;
+
+	private TravelTimeMatrix(DistanceOracle rooms, char[] roomInitials, byte[] layoutHash, double[] expectedTurns) {
+		super();
+		this.rooms = rooms;
+		this.roomInitials = roomInitials;
+		this.layoutHash = layoutHash;
+		this.expectedTurns = expectedTurns;
+	}
+
+	/**
+	 * Load the matrix saved next to the layout file, or compute and save it if
+	 * there is none or the layout file changed since it was saved
+	 *
+	 * @param layoutConfigFile Path of the layout csv
+	 * @param graph            Adjacency graph of the layout
+	 * @param cells            Board cells indexed by cell id
+	 * @param table            Targets of every roll
+	 * @param rooms            Room indexes
+	 */
+	public static TravelTimeMatrix loadOrCompute(String layoutConfigFile, AdjacencyGraph graph, BoardCell[] cells,
+			TargetTable table, DistanceOracle rooms) {
+		byte[] layoutHash = hashFile(layoutConfigFile);
+		char[] roomInitials = new char[rooms.getNumRooms()];
+		for (int i = 0; i < roomInitials.length; i++) {
+			roomInitials[i] = rooms.getRoomInitial(i);
+		}
+
+		if (layoutHash != null) {
+			double[] saved = load(layoutConfigFile + FILE_EXTENSION, layoutHash, roomInitials);
+			if (saved != null) {
+				return new TravelTimeMatrix(rooms, roomInitials, layoutHash, saved);
+			}
+		}
+
+		TravelTimeMatrix matrix = new TravelTimeMatrix(rooms, roomInitials, layoutHash,
+				compute(graph, cells, table, rooms));
+		if (layoutHash != null) {
+			matrix.save(layoutConfigFile + FILE_EXTENSION);
+		}
+		return matrix;
+	}
+
+	/**
+	 * Solve the expected turns to every room, one room per task in parallel. For
+	 * each destination the expected turns E of every walkable cell satisfy
+	 * E(cell) = 1 + average over rolls of the smallest E among that roll's
+	 * targets, with E = 0 at the destination center. Iterated until it settles.
+	 */
+	private static double[] compute(AdjacencyGraph graph, BoardCell[] cells, TargetTable table, DistanceOracle rooms) {
+		int numRooms = rooms.getNumRooms();
+		double[] expectedTurns = new double[numRooms * numRooms];
+		IntStream.range(0, numRooms).parallel().forEach(toRoom -> {
+			double[] turns = solve(graph, cells, table, rooms, toRoom);
+			for (int fromRoom = 0; fromRoom < numRooms; fromRoom++) {
+				BoardCell center = rooms.getRoom(fromRoom).getCenterCell();
+				expectedTurns[fromRoom * numRooms + toRoom] = turns[graph.getCellId(center.getRow(),
+						center.getCol())];
+			}
+		});
+		return expectedTurns;
+	}
+
+	// Expected turns from every cell to one room center. Cells the room can not
+	// be reached from would only grow by a turn each sweep, so they are set to
+	// infinity up front and left out.
+	private static double[] solve(AdjacencyGraph graph, BoardCell[] cells, TargetTable table, DistanceOracle rooms,
+			int toRoom) {
+		BoardCell goal = rooms.getRoom(toRoom).getCenterCell();
+		int goalId = graph.getCellId(goal.getRow(), goal.getCol());
+		int[] targetIds = table.getTargetIds();
+		double[] turns = new double[cells.length];
+		boolean[] reachable = new boolean[cells.length];
+		for (int cellId = 0; cellId < cells.length; cellId++) {
+			reachable[cellId] = rooms.getDistance(cellId, toRoom) != DistanceOracle.UNREACHABLE;
+			if (!reachable[cellId]) {
+				turns[cellId] = Double.POSITIVE_INFINITY;
+			}
+		}
+		double change = Double.MAX_VALUE;
+		for (int iteration = 0; iteration < MAX_ITERATIONS && change > TOLERANCE; iteration++) {
+			change = 0;
+			for (int cellId = 0; cellId < cells.length; cellId++) {
+				if (cellId == goalId || !reachable[cellId] || !TargetTable.isWalkable(cells[cellId])) {
+					continue;
+				}
+				double total = 0;
+				for (int roll = 1; roll <= TargetTable.MAX_ROLL; roll++) {
+					// No targets for a roll means staying put
+					double best = turns[cellId];
+					int start = table.getStart(cellId, roll);
+					int end = table.getEnd(cellId, roll);
+					if (start < end) {
+						best = Double.MAX_VALUE;
+						for (int i = start; i < end; i++) {
+							best = Math.min(best, turns[targetIds[i]]);
+						}
+					}
+					total += best;
+				}
+				double updated = 1 + total / TargetTable.MAX_ROLL;
+				change = Math.max(change, Math.abs(updated - turns[cellId]));
+				turns[cellId] = updated;
+			}
+		}
+		return turns;
+	}
+
+	// SHA-256 of the file contents, null if the file can not be read
+	private static byte[] hashFile(String fileName) {
+		if (ClueGame.JAR || fileName == null) {
+			return null;
+		}
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(Paths.get(fileName)));
+		}
+		catch (IOException | NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	// Saved matrix if it matches the layout and rooms, else null
+	private static double[] load(String fileName, byte[] layoutHash, char[] roomInitials) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fileName)))) {
+			if (in.readInt() != FILE_MAGIC) {
+				return null;
+			}
+			byte[] savedHash = new byte[in.readInt()];
+			in.readFully(savedHash);
+			if (!Arrays.equals(savedHash, layoutHash)) {
+				return null;
+			}
+			int numRooms = in.readInt();
+			if (numRooms != roomInitials.length) {
+				return null;
+			}
+			for (int i = 0; i < numRooms; i++) {
+				if (in.readChar() != roomInitials[i]) {
+					return null;
+				}
+			}
+			double[] expectedTurns = new double[numRooms * numRooms];
+			for (int i = 0; i < expectedTurns.length; i++) {
+				expectedTurns[i] = in.readDouble();
+			}
+			return expectedTurns;
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	private void save(String fileName) {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName)))) {
+			out.writeInt(FILE_MAGIC);
+			out.writeInt(layoutHash.length);
+			out.write(layoutHash);
+			out.writeInt(roomInitials.length);
+			for (char initial : roomInitials) {
+				out.writeChar(initial);
+			}
+			for (double turns : expectedTurns) {
+				out.writeDouble(turns);
+			}
+		}
+		catch (IOException e) {
+			System.out.println("Failed to save travel times: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Expected number of turns to get from one room to another
+	 */
+	public double getExpectedTurns(Room from, Room to) {
+		int fromIndex = rooms.getRoomIndex(from);
+		int toIndex = rooms.getRoomIndex(to);
+		if (fromIndex < 0 || toIndex < 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return expectedTurns[fromIndex * roomInitials.length + toIndex];
+	}
+
+	public int getNumRooms() {
+		return roomInitials.length;
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Everything decided for one turn, worked out off the event dispatch thread
+ * and applied to the board on it
+ */
+package clueGame;
+
+public final class TurnResult {
+	private final Player player;
+	private final TargetResult targets;
+	private final BoardCell target;
+	private final Solution suggestion;
+	private final int disproverSeat;
+	private final Card disprovingCard;
+
+	/**
+	 * @param player         Player whose turn it is
+	 * @param targets        Cells the player can move to
+	 * @param target         Cell a computer player moves to, null if it does not
+	 *                       move or the player is human
+	 * @param suggestion     Suggestion made after moving into a room, or null
+	 * @param disproverSeat  Seat of the player who showed a card, -1 if nobody
+	 *                       did
+	 * @param disprovingCard Card shown against the suggestion, or null
+	 */
+	public TurnResult(Player player, TargetResult targets, BoardCell target, Solution suggestion, int disproverSeat,
+			Card disprovingCard) {
+		super();
+		this.player = player;
+		this.targets = targets;
+		this.target = target;
+		this.suggestion = suggestion;
+		this.disproverSeat = disproverSeat;
+		this.disprovingCard = disprovingCard;
+	}
+
+	/*
+	 * Getters
+	 */
+	public Player getPlayer() {
+		return player;
+	}
+
+	public TargetResult getTargets() {
+		return targets;
+	}
+
+	public BoardCell getTarget() {
+		return target;
+	}
+
+	public Solution getSuggestion() {
+		return suggestion;
+	}
+
+	public int getDisproverSeat() {
+		return disproverSeat;
+	}
+
+	public Card getDisprovingCard() {
+		return disprovingCard;
+	}
+}
@@ -0,0 +1,59 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Unsigned LEB128 numbers in byte buffers, seven bits a byte with the high bit
+ * set on all but the last. Small ids, the most of what the game logs and saves,
+ * take one or two bytes.
+ */
+package clueGame;
+
+import java.nio.ByteBuffer;
+
+final class Varint {
+	static final int MAX_INT_BYTES = 5;
+	static final int MAX_LONG_BYTES = 10;
+
+	private Varint() {
+	}
+
+	static void putInt(ByteBuffer buffer, int value) {
+		while ((value & ~0x7f) != 0) {
+			buffer.put((byte) (value & 0x7f | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	static void putLong(ByteBuffer buffer, long value) {
+		while ((value & ~0x7fL) != 0) {
+			buffer.put((byte) (value & 0x7f | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	static int getInt(ByteBuffer buffer) {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = buffer.get() & 0xff;
+			value |= (b & 0x7f) << shift;
+			if (b < 0x80) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Bad varint");
+	}
+
+	static long getLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = buffer.get() & 0xff;
+			value |= (long) (b & 0x7f) << shift;
+			if (b < 0x80) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Bad varint");
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ * 
+ * Times one all rolls search against one search per roll from every start cell.
+ * Queries per roll are timed without the target cache, so they search like
+ * queryAllRolls does, and again with it warm.
+ */
+
+package experiment;
+
+import clueGame.AdjacencyGraph;
+import clueGame.Board;
+import clueGame.BoardCell;
+import clueGame.CellSet;
+import clueGame.TargetCache;
+import clueGame.TargetFinder;
+import clueGame.TargetQuery;
+
+public class TargetBenchmark {
+	private static final int MAX_ROLL = 6;
+	private static final int ROUNDS = 200;
+
+	public static void main(String[] args) {
+		Board board = Board.getInstance();
+		board.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		board.initialize();
+		AdjacencyGraph graph = board.getAdjacencyGraph();
+		TargetQuery query = board.getTargetQuery();
+
+		BoardCell[] cells = new BoardCell[graph.getNumCells()];
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = board.getCell(i);
+		}
+		TargetFinder finder = new TargetFinder(graph, cells);
+		CellSet targets = new CellSet(cells, graph.getNumColumns());
+		CellSet[] allTargets = new CellSet[MAX_ROLL + 1];
+		for (int roll = 1; roll <= MAX_ROLL; roll++) {
+			allTargets[roll] = new CellSet(cells, graph.getNumColumns());
+		}
+
+		// Run everything once before timing
+		for (int round = 0; round < 2; round++) {
+			long separate = 0, together = 0, separateQuery = 0, togetherQuery = 0, cachedQuery = 0;
+			for (int i = 0; i < ROUNDS; i++) {
+				long start = System.nanoTime();
+				for (int cellId = 0; cellId < cells.length; cellId++) {
+					if (isStart(cells[cellId])) {
+						for (int roll = 1; roll <= MAX_ROLL; roll++) {
+							finder.findTargets(cellId, roll, targets, true);
+						}
+					}
+				}
+				separate += System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (int cellId = 0; cellId < cells.length; cellId++) {
+					if (isStart(cells[cellId])) {
+						finder.findAllTargets(cellId, MAX_ROLL, allTargets);
+					}
+				}
+				together += System.nanoTime() - start;
+
+				board.setTargetCacheCapacity(0);
+				separateQuery += timeQueries(query, cells);
+				board.setTargetCacheCapacity(TargetCache.DEFAULT_CAPACITY);
+				cachedQuery += timeQueries(query, cells);
+
+				start = System.nanoTime();
+				for (BoardCell cell : cells) {
+					if (isStart(cell)) {
+						query.queryAllRolls(cell, MAX_ROLL);
+					}
+				}
+				togetherQuery += System.nanoTime() - start;
+			}
+			if (round == 1) {
+				System.out.printf("DFS, one search per roll:     %8.1f us per board%n", separate / 1000.0 / ROUNDS);
+				System.out.printf("DFS, all rolls in one search: %8.1f us per board (%.1fx)%n",
+						together / 1000.0 / ROUNDS, (double) separate / together);
+				System.out.printf("TargetQuery.query per roll:   %8.1f us per board%n", separateQuery / 1000.0 / ROUNDS);
+				System.out.printf("TargetQuery.queryAllRolls:    %8.1f us per board (%.1fx)%n",
+						togetherQuery / 1000.0 / ROUNDS, (double) separateQuery / togetherQuery);
+				System.out.printf("query per roll, cache warm:   %8.1f us per board%n", cachedQuery / 1000.0 / ROUNDS);
+			}
+		}
+	}
+
+	// One query per roll from every start cell, in nanoseconds
+	private static long timeQueries(TargetQuery query, BoardCell[] cells) {
+		long start = System.nanoTime();
+		for (BoardCell cell : cells) {
+			if (isStart(cell)) {
+				for (int roll = 1; roll <= MAX_ROLL; roll++) {
+					query.query(cell, roll);
+				}
+			}
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static boolean isStart(BoardCell cell) {
+		return cell.isWalkway() || cell.isRoomCenter();
+	}
+}
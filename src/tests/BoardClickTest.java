@@ -0,0 +1,65 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for resolving clicks on the board to cells
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import clueGame.Board;
+
+class BoardClickTest {
+	// Cells are 30 by 20 pixels
+	private static final int CELL_WIDTH = 30;
+	private static final int CELL_HEIGHT = 20;
+	private static Board board;
+
+	@BeforeAll
+	public static void setUp() {
+		// Board is singleton, get the only instance
+		board = Board.getInstance();
+		// set the file names to use my config files
+		board.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		// Initialize will load config files
+		board.initialize();
+		board.setSize(board.getNumColumns() * CELL_WIDTH, board.getNumRows() * CELL_HEIGHT);
+	}
+
+	@Test
+	// Clicks anywhere inside a walkway select it, x is the column and y the row
+	public void testWalkwayClick() {
+		assertEquals(board.getCell(9, 2), board.getClickedCell(2 * CELL_WIDTH, 9 * CELL_HEIGHT));
+		assertEquals(board.getCell(9, 2), board.getClickedCell(3 * CELL_WIDTH - 1, 10 * CELL_HEIGHT - 1));
+		assertEquals(board.getCell(2, 9), board.getClickedCell(9 * CELL_WIDTH + 5, 2 * CELL_HEIGHT + 5));
+	}
+
+	@Test
+	// Any cell of a room selects the room center
+	public void testRoomClick() {
+		assertEquals(board.getRoom('S').getCenterCell(), board.getClickedCell(0, 0));
+	}
+
+	@Test
+	// Clicks past the last row or column select nothing
+	public void testOutsideClick() {
+		assertNull(board.getClickedCell(-1, 0));
+		assertNull(board.getClickedCell(board.getNumColumns() * CELL_WIDTH, 0));
+		assertNull(board.getClickedCell(0, board.getNumRows() * CELL_HEIGHT));
+	}
+
+	@Test
+	// The cell hit test takes x before y
+	public void testContainsClick() {
+		assertTrue(board.getCell(2, 9).containsClick(9 * CELL_WIDTH, 2 * CELL_HEIGHT, CELL_WIDTH, CELL_HEIGHT));
+		assertFalse(board.getCell(9, 2).containsClick(9 * CELL_WIDTH, 2 * CELL_HEIGHT, CELL_WIDTH, CELL_HEIGHT));
+	}
+}
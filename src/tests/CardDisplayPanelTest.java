@@ -0,0 +1,73 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for the incremental updates of the known cards display
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Color;
+
+import javax.swing.JTextField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.Card;
+import clueGame.CardDisplayPanel;
+import clueGame.CardType;
+import clueGame.HumanPlayer;
+import clueGame.Player;
+
+class CardDisplayPanelTest {
+	private Player player, otherPlayer;
+	private Card pinkCard, energyCard, gunCard;
+	private CardDisplayPanel panel;
+
+	@BeforeEach
+	public void setUp() {
+		player = new HumanPlayer("Cyan", Color.cyan, 0, 0);
+		otherPlayer = new HumanPlayer("Pink", Color.pink, 0, 0);
+		pinkCard = new Card("Pink", CardType.PERSON);
+		energyCard = new Card("Energy", CardType.ROOM);
+		gunCard = new Card("Gun", CardType.WEAPON);
+		pinkCard.setCardHolder(player);
+		energyCard.setCardHolder(otherPlayer);
+		gunCard.setCardHolder(otherPlayer);
+		player.updateHand(pinkCard);
+		panel = new CardDisplayPanel(player);
+		panel.updateCardDisplay();
+	}
+
+	@Test
+	// Cards already shown keep their field when new cards are seen
+	public void testFieldsAreKept() {
+		JTextField pinkField = panel.getCardField(pinkCard);
+		assertNotNull(pinkField);
+		assertNull(panel.getCardField(energyCard));
+
+		player.updateSeen(energyCard);
+		panel.updateCardDisplay();
+		assertSame(pinkField, panel.getCardField(pinkCard));
+		assertNotNull(panel.getCardField(energyCard));
+		assertEquals(Color.pink, panel.getCardField(energyCard).getBackground());
+	}
+
+	@Test
+	// Seeing the same card twice shows it once
+	public void testDuplicateSeen() {
+		player.updateSeen(gunCard);
+		panel.updateCardDisplay();
+		JTextField gunField = panel.getCardField(gunCard);
+		player.updateSeen(new Card("Gun", CardType.WEAPON));
+		panel.updateCardDisplay();
+		assertSame(gunField, panel.getCardField(gunCard));
+		assertEquals(1, gunField.getParent().getComponentCount());
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ * 
+ * Tests for the step distances from cells to rooms
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import clueGame.Board;
+import clueGame.DistanceOracle;
+import clueGame.Room;
+
+class DistanceOracleTest {
+	private static Board board;
+
+	@BeforeAll
+	public static void setUp() {
+		// Board is singleton, get the only instance
+		board = Board.getInstance();
+		// set the file names to use my config files
+		board.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		// Initialize will load config files
+		board.initialize();
+	}
+
+	@Test
+	// Distances into Medical from its center, a door and the walkway beside it
+	public void testDistanceToRoom() {
+		Room medical = board.getRoom('M');
+		assertEquals(0, board.getDistanceToRoom(board.getCell(14, 2), medical));
+		assertEquals(1, board.getDistanceToRoom(board.getCell(9, 3), medical));
+		assertEquals(2, board.getDistanceToRoom(board.getCell(9, 2), medical));
+		// Any cell of the room counts as its center
+		assertEquals(0, board.getDistanceToRoom(board.getCell(12, 1), medical));
+	}
+
+	@Test
+	// A secret passage is a single step
+	public void testSecretPassage() {
+		Room medical = board.getRoom('M');
+		Room comms = board.getRoom(board.getCell(11, 18));
+		assertEquals(1, board.getDistanceToRoom(board.getCell(14, 2), comms));
+		assertEquals(1, board.getDistanceToRoom(board.getCell(11, 18), medical));
+	}
+
+	@Test
+	// Every walkway can reach every room
+	public void testAllRoomsReachable() {
+		DistanceOracle oracle = board.getDistanceOracle();
+		assertEquals(9, oracle.getNumRooms());
+		for (int row = 0; row < board.getNumRows(); row++) {
+			for (int col = 0; col < board.getNumColumns(); col++) {
+				if (board.getCell(row, col).isWalkway()) {
+					for (int i = 0; i < oracle.getNumRooms(); i++) {
+						int distance = oracle.getDistance(board.getCell(row, col), oracle.getRoom(i));
+						assertEquals(true, distance > 0 && distance < DistanceOracle.UNREACHABLE);
+					}
+				}
+			}
+		}
+	}
+}
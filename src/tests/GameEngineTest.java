@@ -0,0 +1,115 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for playing whole games on the engine without the board view
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileNotFoundException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.BadConfigFormatException;
+import clueGame.GameEngine;
+import clueGame.GameResult;
+import clueGame.Player;
+import clueGame.Solution;
+
+class GameEngineTest {
+	private GameEngine engine;
+
+	@BeforeEach
+	public void setUp() throws FileNotFoundException, BadConfigFormatException {
+		engine = GameTestHelper.createEngine();
+		engine.newGame();
+	}
+
+	@Test
+	// A new game seats computers everywhere and deals every card but the answer
+	public void testNewGame() {
+		int numDealt = 0;
+		for (Player player : engine.getPlayers()) {
+			assertFalse(player.isHuman());
+			assertNull(player.getAccusation());
+			numDealt += player.getHand().size();
+		}
+		assertEquals(6, engine.getPlayers().size());
+		assertEquals(engine.getDeck().size() - 3, numDealt);
+		assertEquals(0, engine.getOccupancy().getNumOccupied());
+		assertEquals(0, engine.getNumTurns());
+	}
+
+	@Test
+	// Computer players only accuse once nobody can disprove, so they win
+	public void testPlayGame() {
+		GameResult result = engine.playGame(10000);
+		assertNotNull(result.getAccuser());
+		assertTrue(result.isCorrect());
+		assertEquals(result.getAccuser(), result.getWinner());
+		assertEquals(engine.getTheAnswer(), result.getAccusation());
+		assertTrue(result.getNumTurns() > 0);
+	}
+
+	@Test
+	// Running out of turns ends the game without a winner
+	public void testTurnLimit() {
+		GameResult result = engine.playGame(1);
+		assertNull(result.getAccuser());
+		assertNull(result.getWinner());
+		assertEquals(1, result.getNumTurns());
+	}
+
+	@Test
+	// A wrong accusation is returned as a loss instead of ending the program
+	public void testWrongAccusation() {
+		Solution answer = engine.getTheAnswer();
+		Player player = engine.getCurrentPlayer();
+		player.setAccusation(new Solution(answer.getPerson(), answer.getRoom(), player.getHand().get(0)));
+		GameResult result = engine.playTurn();
+		assertEquals(player, result.getAccuser());
+		assertFalse(result.isCorrect());
+		assertNull(result.getWinner());
+	}
+
+	@Test
+	// Two engines given the same seed deal, roll and move exactly alike
+	public void testSameSeedSameGame() throws FileNotFoundException, BadConfigFormatException {
+		GameEngine other = GameTestHelper.createEngine();
+		engine.newGame(42);
+		other.newGame(42);
+		assertEquals(engine.getTheAnswer(), other.getTheAnswer());
+
+		GameResult result = null;
+		while (result == null && engine.getNumTurns() < 10000) {
+			assertEquals(engine.getDiceRoll(), other.getDiceRoll());
+			result = engine.playTurn();
+			GameResult otherResult = other.playTurn();
+			for (int seat = 0; seat < engine.getPlayers().size(); seat++) {
+				Player player = engine.getPlayers().get(seat);
+				Player otherPlayer = other.getPlayers().get(seat);
+				assertEquals(player.getRow(), otherPlayer.getRow());
+				assertEquals(player.getColumn(), otherPlayer.getColumn());
+			}
+			if (result == null) {
+				assertNull(otherResult);
+				engine.nextTurn();
+				other.nextTurn();
+			}
+			else {
+				assertEquals(result.getNumTurns(), otherResult.getNumTurns());
+				assertEquals(result.getAccuser().getName(), otherResult.getAccuser().getName());
+			}
+		}
+		assertNotNull(result);
+		assertEquals(42, engine.getSeed());
+	}
+}
@@ -0,0 +1,137 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for logging games and rebuilding them from the log
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.BadConfigFormatException;
+import clueGame.GameEngine;
+import clueGame.GameLog;
+import clueGame.GameReplayer;
+import clueGame.GameResult;
+
+class GameLogTest {
+	private GameEngine engine;
+	private GameEngine replayEngine;
+	private Path logFile;
+
+	@BeforeEach
+	public void setUp() throws IOException, BadConfigFormatException {
+		engine = GameTestHelper.createEngine();
+		replayEngine = GameTestHelper.createEngine();
+		logFile = Files.createTempFile("clue", ".log");
+		Files.delete(logFile);
+	}
+
+	@AfterEach
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(logFile);
+	}
+
+	@Test
+	// A replayed game ends on the same board with the same result
+	public void testReplayGame() throws IOException {
+		try (GameLog log = new GameLog(logFile)) {
+			engine.setGameLog(log);
+			engine.newGame(3);
+			GameResult result = engine.playGame(10000);
+			assertTrue(result.isCorrect());
+		}
+
+		try (GameReplayer replayer = new GameReplayer(logFile)) {
+			assertTrue(replayer.hasNextGame());
+			GameResult replayed = replayer.replayGame(replayEngine);
+			assertEquals(engine.getCurrentPlayer().getName(), replayed.getAccuser().getName());
+			assertTrue(replayed.isCorrect());
+			assertEquals(engine.getTheAnswer(), replayed.getAccusation());
+			GameTestHelper.assertSameState(engine, replayEngine);
+			assertFalse(replayer.hasNextGame());
+		}
+	}
+
+	@Test
+	// Logs opened again are added to, and games stopped by the turn limit replay
+	// up to the turn they stopped on
+	public void testAppendUnfinished() throws IOException {
+		try (GameLog log = new GameLog(logFile)) {
+			engine.setGameLog(log);
+			engine.newGame(5);
+			engine.playGame(10000);
+		}
+		try (GameLog log = new GameLog(logFile)) {
+			engine.setGameLog(log);
+			engine.newGame(6);
+			engine.playGame(20);
+		}
+
+		try (GameReplayer replayer = new GameReplayer(logFile)) {
+			assertTrue(replayer.replayGame(replayEngine).isCorrect());
+			GameResult replayed = replayer.replayGame(replayEngine);
+			assertNull(replayed.getAccuser());
+			assertEquals(20, replayed.getNumTurns());
+			GameTestHelper.assertSameState(engine, replayEngine);
+			assertFalse(replayer.hasNextGame());
+		}
+	}
+
+	@Test
+	// A log cut off inside its last event is refused, not read past
+	public void testCutShort() throws IOException {
+		try (GameLog log = new GameLog(logFile)) {
+			engine.setGameLog(log);
+			engine.newGame(3);
+			engine.playGame(10000);
+		}
+		byte[] bytes = Files.readAllBytes(logFile);
+		Files.write(logFile, Arrays.copyOf(bytes, bytes.length - 1));
+
+		try (GameReplayer replayer = new GameReplayer(logFile)) {
+			assertThrows(EOFException.class, () -> replayer.replayGame(replayEngine));
+		}
+	}
+
+	@Test
+	// An id that decodes negative is refused like one past the end
+	public void testNegativeId() throws IOException {
+		// Magic, a game with seed 0, then a card id of -1 as a five byte varint
+		Files.write(logFile, new byte[] { 0x43, 0x4c, 0x47, 0x31, 1, 0, (byte) 0xff, (byte) 0xff, (byte) 0xff,
+				(byte) 0xff, 0x0f });
+
+		try (GameReplayer replayer = new GameReplayer(logFile)) {
+			assertThrows(IOException.class, () -> replayer.replayGame(replayEngine));
+		}
+	}
+
+	@Test
+	// Turns take a few bytes each
+	public void testLogSize() throws IOException {
+		int numTurns = 0;
+		try (GameLog log = new GameLog(logFile)) {
+			engine.setGameLog(log);
+			for (int game = 0; game < 10; game++) {
+				engine.newGame(game);
+				numTurns += engine.playGame(10000).getNumTurns();
+			}
+		}
+		assertTrue(Files.size(logFile) < 16L * numTurns);
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for the parallel game simulator and its statistics
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import clueGame.BadConfigFormatException;
+import clueGame.GameEngine;
+import clueGame.GameSimulator;
+import clueGame.SimulationStats;
+
+class GameSimulatorTest {
+
+	@Test
+	// Every game is counted once no matter how the games are split over threads
+	public void testGamesAddUp() throws IOException, BadConfigFormatException {
+		GameSimulator simulator = new GameSimulator("data/ClueSetup.csv", "data/ClueSetup.txt");
+		SimulationStats stats = simulator.run(41, 3);
+		assertEquals(41, stats.getNumGames());
+		assertEquals(6, stats.getNumSeats());
+
+		long numWins = 0;
+		for (int seat = 0; seat < stats.getNumSeats(); seat++) {
+			numWins += stats.getWins(seat);
+		}
+		assertEquals(stats.getNumSolved(), numWins);
+		assertEquals(41, stats.getNumSolved() + stats.getNumWrong() + stats.getNumUnfinished());
+
+		long numCounted = 0;
+		for (long count : stats.getLengthCounts()) {
+			numCounted += count;
+		}
+		assertEquals(41, numCounted);
+		assertTrue(stats.getGamesPerSecond() > 0);
+	}
+
+	@Test
+	// Games cut off by the turn limit are unfinished and counted at the limit
+	public void testTurnLimit() throws IOException, BadConfigFormatException {
+		GameSimulator simulator = new GameSimulator("data/ClueSetup.csv", "data/ClueSetup.txt");
+		simulator.setMaxTurns(2);
+		SimulationStats stats = simulator.run(10, 2);
+		assertEquals(10, stats.getNumUnfinished());
+		assertEquals(10, stats.getLengthCounts()[2]);
+		assertEquals(2, stats.getTurnsPercentile(0.5));
+		assertEquals(0, stats.getMeanSuggestionsToSolve());
+	}
+
+	@Test
+	// A run seed gives the same totals on any number of threads, and any game of
+	// the run can be replayed on its own
+	public void testSeededRun() throws IOException, BadConfigFormatException {
+		GameSimulator simulator = new GameSimulator("data/ClueSetup.csv", "data/ClueSetup.txt");
+		simulator.setSeed(7);
+		SimulationStats single = simulator.run(12, 1);
+		SimulationStats split = simulator.run(12, 3);
+		for (int seat = 0; seat < single.getNumSeats(); seat++) {
+			assertEquals(single.getWins(seat), split.getWins(seat));
+		}
+		assertArrayEquals(single.getLengthCounts(), split.getLengthCounts());
+		assertEquals(single.getMeanSuggestionsToSolve(), split.getMeanSuggestionsToSolve());
+
+		GameEngine first = simulator.replayGame(5);
+		GameEngine second = simulator.replayGame(5);
+		assertTrue(first.getNumTurns() > 0);
+		assertEquals(first.getNumTurns(), second.getNumTurns());
+		assertEquals(first.getNumSuggestions(), second.getNumSuggestions());
+		assertEquals(first.getTheAnswer(), second.getTheAnswer());
+	}
+}
@@ -0,0 +1,177 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for saving a game in progress and restoring it
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.BadConfigFormatException;
+import clueGame.BoardCell;
+import clueGame.ComputerPlayer;
+import clueGame.GameEngine;
+import clueGame.GameResult;
+import clueGame.GameSnapshot;
+import clueGame.Player;
+
+class GameSnapshotTest {
+	private GameEngine engine;
+	private GameEngine restoreEngine;
+
+	@BeforeEach
+	public void setUp() throws IOException, BadConfigFormatException {
+		engine = GameTestHelper.createEngine();
+		restoreEngine = GameTestHelper.createEngine();
+		// Part way into a game, with suggestions made and rooms visited
+		engine.newGame(8);
+		engine.playGame(60);
+	}
+
+	private static Set<Integer> getVisitedIds(GameEngine engine, Player player) {
+		Set<Integer> cellIds = new HashSet<>();
+		for (BoardCell cell : ((ComputerPlayer) player).getVisitedRooms()) {
+			cellIds.add(engine.getCellId(cell));
+		}
+		return cellIds;
+	}
+
+	@Test
+	// Everything the game goes on from comes back the same
+	public void testRestore() {
+		byte[] snapshot = GameSnapshot.save(engine);
+		assertTrue(snapshot.length < 1024);
+		GameSnapshot.restore(restoreEngine, snapshot);
+
+		GameTestHelper.assertSameState(engine, restoreEngine);
+		// What only a snapshot keeps
+		assertArrayEquals(engine.getOccupancy().copyOccupied(), restoreEngine.getOccupancy().copyOccupied());
+		for (int seat = 0; seat < engine.getPlayers().size(); seat++) {
+			Player player = engine.getPlayers().get(seat);
+			Player restored = restoreEngine.getPlayers().get(seat);
+			assertEquals(player.getUnseenCards(), restored.getUnseenCards());
+			assertEquals(getVisitedIds(engine, player), getVisitedIds(restoreEngine, restored));
+		}
+		assertArrayEquals(snapshot, GameSnapshot.save(restoreEngine));
+		// Saving only reads the game, so the same game saves to the same bytes
+		assertArrayEquals(snapshot, GameSnapshot.save(engine));
+	}
+
+	@Test
+	// A snapshot always plays on the same way
+	public void testRestoredGamePlaysOn() throws IOException, BadConfigFormatException {
+		byte[] snapshot = GameSnapshot.save(engine);
+		GameEngine otherEngine = GameTestHelper.createEngine();
+		GameSnapshot.restore(restoreEngine, snapshot);
+		GameSnapshot.restore(otherEngine, snapshot);
+		GameResult result = restoreEngine.playGame(10000);
+		GameResult otherResult = otherEngine.playGame(10000);
+		assertTrue(result.isCorrect());
+		assertEquals(result.getNumTurns(), otherResult.getNumTurns());
+		assertEquals(result.getAccuser().getName(), otherResult.getAccuser().getName());
+	}
+
+	@Test
+	// The saved game and the restored one play on turn for turn alike
+	public void testPlaysOnLikeOriginal() {
+		GameSnapshot.restore(restoreEngine, GameSnapshot.save(engine));
+		GameResult result = null;
+		GameResult restoredResult = null;
+		while (result == null && engine.getNumTurns() < 10000) {
+			assertEquals(engine.getDiceRoll(), restoreEngine.getDiceRoll());
+			result = engine.playTurn();
+			restoredResult = restoreEngine.playTurn();
+			GameTestHelper.assertSameState(engine, restoreEngine);
+			if (result == null) {
+				assertNull(restoredResult);
+				engine.nextTurn();
+				restoreEngine.nextTurn();
+			}
+		}
+		assertTrue(result.isCorrect());
+		assertEquals(result.getNumTurns(), restoredResult.getNumTurns());
+		assertEquals(result.getNumSuggestions(), restoredResult.getNumSuggestions());
+		assertEquals(result.getAccuser().getName(), restoredResult.getAccuser().getName());
+		assertEquals(result.getAccusation(), restoredResult.getAccusation());
+	}
+
+	@Test
+	// A game that was saved ends the same as one that never was
+	public void testSaveLeavesGameAlone() throws IOException, BadConfigFormatException {
+		GameEngine unsavedEngine = GameTestHelper.createEngine();
+		unsavedEngine.newGame(8);
+		unsavedEngine.playGame(60);
+		GameSnapshot.save(engine);
+		GameResult result = engine.playGame(10000);
+		GameResult unsavedResult = unsavedEngine.playGame(10000);
+		assertEquals(unsavedResult.getNumTurns(), result.getNumTurns());
+		assertEquals(unsavedResult.getAccuser().getName(), result.getAccuser().getName());
+		GameTestHelper.assertSameState(unsavedEngine, engine);
+	}
+
+	@Test
+	// Seen cards keep growing over a long game and still fit
+	public void testLongGame() {
+		Player player = engine.getPlayers().get(0);
+		for (int i = 0; i < 5000; i++) {
+			player.updateSeen(engine.getCard(i % engine.getDeck().size()));
+		}
+		GameSnapshot.restore(restoreEngine, GameSnapshot.save(engine));
+		assertEquals(player.getSeenCards(), restoreEngine.getPlayers().get(0).getSeenCards());
+	}
+
+	@Test
+	// Saved to a file and back
+	public void testFile() throws IOException {
+		Path file = Files.createTempFile("clue", ".snapshot");
+		try {
+			GameSnapshot.save(engine, file);
+			GameSnapshot.restore(restoreEngine, file);
+			assertArrayEquals(GameSnapshot.save(engine), Files.readAllBytes(file));
+			assertArrayEquals(GameSnapshot.save(engine), GameSnapshot.save(restoreEngine));
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	// Bytes that are not a whole snapshot are refused
+	public void testBadSnapshot() {
+		byte[] snapshot = GameSnapshot.save(engine);
+		assertThrows(IllegalArgumentException.class,
+				() -> GameSnapshot.restore(restoreEngine, Arrays.copyOf(snapshot, snapshot.length / 2)));
+		assertThrows(IllegalArgumentException.class, () -> GameSnapshot.restore(restoreEngine, new byte[8]));
+
+		// A varint of -1 slipped in anywhere is either read past or refused
+		byte[] minusOne = { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f };
+		for (int i = 0; i <= snapshot.length; i++) {
+			byte[] corrupt = new byte[snapshot.length + minusOne.length];
+			System.arraycopy(snapshot, 0, corrupt, 0, i);
+			System.arraycopy(minusOne, 0, corrupt, i, minusOne.length);
+			System.arraycopy(snapshot, i, corrupt, i + minusOne.length, snapshot.length - i);
+			try {
+				GameSnapshot.restore(restoreEngine, corrupt);
+			}
+			catch (IllegalArgumentException e) {
+				// Refused as documented
+			}
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Engines and checks shared by the tests that play whole games
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.FileNotFoundException;
+
+import clueGame.BadConfigFormatException;
+import clueGame.GameEngine;
+import clueGame.Player;
+
+final class GameTestHelper {
+	private GameTestHelper() {
+	}
+
+	// Engines are not shared, every test gets its own
+	static GameEngine createEngine() throws FileNotFoundException, BadConfigFormatException {
+		GameEngine engine = new GameEngine();
+		engine.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		engine.setAllComputerPlayers(true);
+		engine.loadConfigFiles();
+		return engine;
+	}
+
+	// The board state a replay or restore has to rebuild
+	static void assertSameState(GameEngine expected, GameEngine actual) {
+		assertEquals(expected.getTheAnswer(), actual.getTheAnswer());
+		assertEquals(expected.getCurrentPlayer().getName(), actual.getCurrentPlayer().getName());
+		assertEquals(expected.getDiceRoll(), actual.getDiceRoll());
+		assertEquals(expected.getNumTurns(), actual.getNumTurns());
+		assertEquals(expected.getNumSuggestions(), actual.getNumSuggestions());
+		assertEquals(expected.getCurrentSuggestion(), actual.getCurrentSuggestion());
+		assertEquals(expected.getCurrentDisprove(), actual.getCurrentDisprove());
+		for (int seat = 0; seat < expected.getPlayers().size(); seat++) {
+			Player player = expected.getPlayers().get(seat);
+			Player other = actual.getPlayers().get(seat);
+			assertEquals(player.getRow(), other.getRow());
+			assertEquals(player.getColumn(), other.getColumn());
+			assertEquals(String.valueOf(player.getCurrentRoom()), String.valueOf(other.getCurrentRoom()));
+			assertEquals(player.getHand(), other.getHand());
+			assertEquals(player.getSeenCards(), other.getSeenCards());
+			assertEquals(player.getAccusation(), other.getAccusation());
+			assertEquals(player.isMovedSuggestion(), other.isMovedSuggestion());
+		}
+		assertEquals(expected.getOccupancy().getNumOccupied(), actual.getOccupancy().getNumOccupied());
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for the occupancy index owned by the board
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.Board;
+import clueGame.BoardCell;
+import clueGame.OccupancyIndex;
+import clueGame.Player;
+
+class OccupancyIndexTest {
+	private static Board board;
+
+	@BeforeEach
+	public void setUp() {
+		// Board is singleton, get the only instance
+		board = Board.getInstance();
+		// set the file names to use my config files
+		board.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		// Initialize will load config files, which also clears the occupancy
+		board.initialize();
+	}
+
+	@Test
+	// Moving a player frees the old cell and takes the new one
+	public void testMovePlayer() {
+		OccupancyIndex occupancy = board.getOccupancy();
+		Player player = board.getPlayers().get(0);
+		board.movePlayer(player, board.getCell(9, 2));
+		assertTrue(board.getCell(9, 2).isOccupied());
+		assertEquals(board.getCell(9, 2), occupancy.getCell(player));
+
+		board.movePlayer(player, board.getCell(9, 4));
+		assertFalse(board.getCell(9, 2).isOccupied());
+		assertTrue(board.getCell(9, 4).isOccupied());
+		assertEquals(1, occupancy.getNumOccupied());
+		assertEquals(9, player.getRow());
+		assertEquals(4, player.getColumn());
+	}
+
+	@Test
+	// A room center stays occupied until the last player leaves
+	public void testSharedRoomCenter() {
+		BoardCell center = board.getRoom('C').getCenterCell();
+		Player first = board.getPlayers().get(0);
+		Player second = board.getPlayers().get(1);
+		board.movePlayer(first, center);
+		board.movePlayer(second, center);
+		board.movePlayer(first, board.getCell(9, 2));
+		assertTrue(center.isOccupied());
+		board.movePlayer(second, board.getCell(9, 4));
+		assertFalse(center.isOccupied());
+	}
+
+	@Test
+	// Listeners hear about every real change, and only those
+	public void testListener() {
+		ArrayList<BoardCell> changed = new ArrayList<>();
+		board.getOccupancy().addListener((cell, occupied) -> changed.add(cell));
+		board.getCell(9, 2).setOccupied(true);
+		board.getCell(9, 2).setOccupied(true);
+		board.getCell(9, 2).setOccupied(false);
+		assertEquals(2, changed.size());
+
+		// Cached targets are recomputed through the listener
+		board.calcTargets(board.getCell(9, 2), 4);
+		int before = board.getTargets().size();
+		board.movePlayer(board.getPlayers().get(0), board.getCell(9, 4));
+		board.calcTargets(board.getCell(9, 2), 4);
+		assertTrue(board.getTargets().size() < before);
+	}
+}
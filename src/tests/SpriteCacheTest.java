@@ -0,0 +1,47 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for the sprite cache used while painting
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Image;
+
+import org.junit.jupiter.api.Test;
+
+import clueGame.SpriteCache;
+
+class SpriteCacheTest {
+
+	@Test
+	// A sprite is decoded once and the same image is served after that
+	public void testSpriteLoadedOnce() {
+		assertNotNull(SpriteCache.get(SpriteCache.VENT));
+		assertSame(SpriteCache.get(SpriteCache.VENT), SpriteCache.get(SpriteCache.VENT));
+	}
+
+	@Test
+	// Scaled copies are reused for the same size and remade for a new one
+	public void testScaledSprite() {
+		Image scaled = SpriteCache.getScaled(SpriteCache.VENT, 30, 20);
+		assertEquals(30, scaled.getWidth(null));
+		assertEquals(20, scaled.getHeight(null));
+		assertSame(scaled, SpriteCache.getScaled(SpriteCache.VENT, 30, 20));
+		assertNotSame(scaled, SpriteCache.getScaled(SpriteCache.VENT, 40, 40));
+	}
+
+	@Test
+	// Missing sprites come back as null so callers draw their fallback
+	public void testMissingSprite() {
+		assertNull(SpriteCache.get("missing.png"));
+		assertNull(SpriteCache.get("missing.png"));
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for the target cache in front of calcTargets
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.Board;
+import clueGame.BoardCell;
+import clueGame.TargetCache;
+
+class TargetCacheTest {
+	private static Board board;
+
+	@BeforeEach
+	public void setUp() {
+		// Board is singleton, get the only instance
+		board = Board.getInstance();
+		// set the file names to use my config files
+		board.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		// Initialize will load config files, which also clears the cache
+		board.initialize();
+		board.setTargetCacheCapacity(TargetCache.DEFAULT_CAPACITY);
+	}
+
+	@Test
+	// Same search twice should only be computed once
+	public void testRepeatedSearchHits() {
+		TargetCache cache = board.getTargetCache();
+		board.calcTargets(board.getCell(14, 2), 3);
+		board.calcTargets(board.getCell(14, 2), 3);
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	// Occupying a cell in range must not return the old targets
+	public void testOccupancyChangeNearStart() {
+		TargetCache cache = board.getTargetCache();
+		board.calcTargets(board.getCell(9, 2), 4);
+		assertTrue(board.getTargets().size() > 1);
+
+		board.getCell(9, 4).setOccupied(true);
+		board.calcTargets(board.getCell(9, 2), 4);
+		Set<BoardCell> targets = board.getTargets();
+		assertEquals(1, targets.size());
+		assertTrue(targets.contains(board.getCell(14, 2)));
+		assertEquals(2, cache.getMisses());
+
+		// Back to the first occupancy pattern, still cached
+		board.getCell(9, 4).setOccupied(false);
+		board.calcTargets(board.getCell(9, 2), 4);
+		assertTrue(board.getTargets().size() > 1);
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	// Occupying a cell far away keeps the cached entry usable
+	public void testOccupancyChangeFarAway() {
+		TargetCache cache = board.getTargetCache();
+		board.calcTargets(board.getCell(9, 2), 2);
+		board.getCell(20, 17).setOccupied(true);
+		board.calcTargets(board.getCell(9, 2), 2);
+		board.getCell(20, 17).setOccupied(false);
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	// Least recently used entries are dropped once the cache is full
+	public void testEviction() {
+		TargetCache cache = board.getTargetCache();
+		board.setTargetCacheCapacity(2);
+		board.calcTargets(board.getCell(14, 2), 1);
+		board.calcTargets(board.getCell(14, 2), 2);
+		board.calcTargets(board.getCell(14, 2), 1);
+		board.calcTargets(board.getCell(14, 2), 3);
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+
+		// Roll of 2 was the oldest, it has to be computed again
+		board.calcTargets(board.getCell(14, 2), 2);
+		assertEquals(4, cache.getMisses());
+		assertEquals(1, cache.getHits());
+	}
+}
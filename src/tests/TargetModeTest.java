@@ -0,0 +1,95 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ * 
+ * Tests for the bitboard WALKS target mode
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import clueGame.Board;
+import clueGame.BoardCell;
+import clueGame.TargetMode;
+import clueGame.TargetModeComparison;
+import clueGame.TargetResult;
+
+class TargetModeTest {
+	private static Board board;
+
+	@BeforeAll
+	public static void setUp() {
+		// Board is singleton, get the only instance
+		board = Board.getInstance();
+		// set the file names to use my config files
+		board.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		// Initialize will load config files
+		board.initialize();
+	}
+
+	@AfterEach
+	public void resetMode() {
+		board.setTargetMode(TargetMode.PATHS);
+	}
+
+	@Test
+	// Every simple path is also a walk, so walks can only add targets
+	public void testWalksContainPaths() {
+		TargetModeComparison comparison = new TargetModeComparison(board, 6);
+		assertTrue(comparison.getNumSearches() > 0);
+		assertEquals(-1, comparison.toString().indexOf("paths only"));
+	}
+
+	@Test
+	// Walking back and forth reaches cells no simple path of the roll does
+	public void testWalkBackAndForth() {
+		BoardCell start = board.getCell(2, 12);
+		board.calcTargets(start, 3);
+		Set<BoardCell> paths = new HashSet<>(board.getTargets());
+		assertFalse(paths.contains(board.getCell(6, 12)));
+		assertFalse(paths.contains(board.getCell(6, 13)));
+
+		board.setTargetMode(TargetMode.WALKS);
+		board.calcTargets(start, 3);
+		Set<BoardCell> walks = board.getTargets();
+		assertTrue(walks.containsAll(paths));
+		assertTrue(walks.contains(board.getCell(6, 12)));
+		assertTrue(walks.contains(board.getCell(6, 13)));
+		// Start cell is never a target
+		assertFalse(walks.contains(start));
+	}
+
+	@Test
+	// Occupied cells still block walks
+	public void testWalksOccupied() {
+		board.setTargetMode(TargetMode.WALKS);
+		board.getCell(9, 4).setOccupied(true);
+		board.calcTargets(board.getCell(9, 2), 4);
+		board.getCell(9, 4).setOccupied(false);
+		Set<BoardCell> targets = board.getTargets();
+		assertTrue(!targets.contains(board.getCell(9, 4)));
+		assertTrue(targets.contains(board.getCell(14, 2)));
+	}
+
+	@Test
+	// Targets of all rolls at once follow the mode like single rolls do
+	public void testAllRollsFollowMode() {
+		board.setTargetMode(TargetMode.WALKS);
+		BoardCell start = board.getCell(9, 2);
+		TargetResult[] allRolls = board.calcTargetsAllRolls(start, 6);
+		for (int roll = 1; roll <= 6; roll++) {
+			board.calcTargets(start, roll);
+			assertEquals(board.getTargets(), allRolls[roll]);
+		}
+	}
+}
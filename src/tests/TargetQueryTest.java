@@ -0,0 +1,120 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ * 
+ * Tests for the reentrant target query API
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import clueGame.Board;
+import clueGame.BoardCell;
+import clueGame.TargetQuery;
+import clueGame.TargetResult;
+
+class TargetQueryTest {
+	private static Board board;
+
+	@BeforeAll
+	public static void setUp() {
+		// Board is singleton, get the only instance
+		board = Board.getInstance();
+		// set the file names to use my config files
+		board.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		// Initialize will load config files
+		board.initialize();
+	}
+
+	@Test
+	// getTargets must not change when targets are calculated again
+	public void testResultIsStable() {
+		board.calcTargets(board.getCell(14, 2), 1);
+		Set<BoardCell> first = board.getTargets();
+		Set<BoardCell> copy = new HashSet<>(first);
+		board.calcTargets(board.getCell(9, 2), 4);
+		assertEquals(copy, first);
+		assertThrows(UnsupportedOperationException.class, () -> first.add(board.getCell(0, 0)));
+	}
+
+	@Test
+	// Queries from many threads at once match the single threaded answers
+	public void testConcurrentQueries() throws InterruptedException {
+		TargetQuery query = board.getTargetQuery();
+		ArrayList<BoardCell> starts = new ArrayList<>();
+		ArrayList<TargetResult> expected = new ArrayList<>();
+		for (int row = 0; row < board.getNumRows(); row++) {
+			for (int col = 0; col < board.getNumColumns(); col++) {
+				BoardCell cell = board.getCell(row, col);
+				if (cell.isWalkway() || cell.isRoomCenter()) {
+					for (int roll = 1; roll <= 6; roll++) {
+						starts.add(cell);
+						expected.add(query.query(cell, roll));
+					}
+				}
+			}
+		}
+
+		AtomicInteger mismatches = new AtomicInteger();
+		ArrayList<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < starts.size(); i++) {
+					TargetResult result = query.query(starts.get(i), expected.get(i).getPathLength());
+					if (!result.equals(expected.get(i))) {
+						mismatches.incrementAndGet();
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, mismatches.get());
+		assertTrue(expected.size() > 0);
+	}
+
+	@Test
+	// One search for all rolls gives the same targets as one search per roll
+	public void testAllRollsMatchesSeparateQueries() {
+		TargetQuery query = board.getTargetQuery();
+		board.getCell(9, 4).setOccupied(true);
+		board.getCell(6, 13).setOccupied(true);
+		board.getCell(20, 8).setOccupied(true);
+		int numCompared = 0;
+		try {
+			for (int row = 0; row < board.getNumRows(); row++) {
+				for (int col = 0; col < board.getNumColumns(); col++) {
+					BoardCell cell = board.getCell(row, col);
+					if (cell.isWalkway() || cell.isRoomCenter()) {
+						TargetResult[] allRolls = board.calcTargetsAllRolls(cell, 8);
+						assertEquals(0, allRolls[0].size());
+						for (int roll = 1; roll <= 8; roll++) {
+							assertEquals(query.query(cell, roll), allRolls[roll]);
+							numCompared++;
+						}
+					}
+				}
+			}
+		}
+		finally {
+			board.getCell(9, 4).setOccupied(false);
+			board.getCell(6, 13).setOccupied(false);
+			board.getCell(20, 8).setOccupied(false);
+		}
+		assertTrue(numCompared > 0);
+	}
+}
@@ -0,0 +1,75 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for the expected turns between rooms
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import clueGame.Board;
+import clueGame.Room;
+import clueGame.TravelTimeMatrix;
+
+class TravelTimeMatrixTest {
+	private static Board board;
+
+	@BeforeAll
+	public static void setUp() {
+		// Board is singleton, get the only instance
+		board = Board.getInstance();
+		// set the file names to use my config files
+		board.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		// Initialize will load config files
+		board.initialize();
+	}
+
+	@Test
+	// A room is zero turns from itself
+	public void testSameRoom() {
+		TravelTimeMatrix travelTimes = board.getTravelTimes();
+		Room comms = board.getRoom('C');
+		assertEquals(0.0, travelTimes.getExpectedTurns(comms, comms), 1e-9);
+	}
+
+	@Test
+	// Secret passage reaches the other room on any roll
+	public void testSecretPassage() {
+		TravelTimeMatrix travelTimes = board.getTravelTimes();
+		assertEquals(1.0, travelTimes.getExpectedTurns(board.getRoom('C'), board.getRoom('M')), 1e-9);
+	}
+
+	@Test
+	// Rooms further away take longer, and every trip takes at least one turn
+	public void testFartherTakesLonger() {
+		TravelTimeMatrix travelTimes = board.getTravelTimes();
+		Room rightEngine = board.getRoom('R');
+		assertTrue(travelTimes.getExpectedTurns(rightEngine, board.getRoom('E')) >= 1.0);
+		assertTrue(travelTimes.getExpectedTurns(rightEngine, board.getRoom('E')) < travelTimes
+				.getExpectedTurns(rightEngine, board.getRoom('S')));
+	}
+
+	@Test
+	// A room walled off from the rest of the board is infinitely far both ways
+	public void testUnreachableRoom() {
+		board.setConfigFiles("data/ClueLayoutUnreachable.csv", "data/ClueSetupUnreachable.txt");
+		board.initialize();
+		try {
+			TravelTimeMatrix travelTimes = board.getTravelTimes();
+			Room alpha = board.getRoom('A');
+			Room beta = board.getRoom('B');
+			assertEquals(Double.POSITIVE_INFINITY, travelTimes.getExpectedTurns(alpha, beta));
+			assertEquals(Double.POSITIVE_INFINITY, travelTimes.getExpectedTurns(beta, alpha));
+			assertEquals(0.0, travelTimes.getExpectedTurns(alpha, alpha), 1e-9);
+		}
+		finally {
+			setUp();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * @author Alexander Cieslewicz
+ * @author Eric Dong
+ *
+ * Tests for computing a turn separately from applying it to the board
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.Board;
+import clueGame.BoardCell;
+import clueGame.Player;
+import clueGame.TurnResult;
+
+class TurnComputationTest {
+	private static Board board;
+
+	@BeforeEach
+	public void setUp() {
+		// Board is singleton, get the only instance
+		board = Board.getInstance();
+		// set the file names to use my config files
+		board.setConfigFiles("data/ClueSetup.csv", "data/ClueSetup.txt");
+		// Initialize will load config files
+		board.initialize();
+	}
+
+	// Move to the first computer player
+	private Player nextComputerPlayer() {
+		do {
+			board.updateCurrentPlayer();
+		} while (board.getCurrentPlayer().isHuman());
+		return board.getCurrentPlayer();
+	}
+
+	@Test
+	// Computing a turn must leave the board as it was
+	public void testComputeDoesNotMove() {
+		Player player = nextComputerPlayer();
+		int row = player.getRow();
+		int column = player.getColumn();
+		int numOccupied = board.getOccupancy().getNumOccupied();
+
+		TurnResult turn = board.computeTurn();
+		assertEquals(player, turn.getPlayer());
+		assertNotNull(turn.getTarget());
+		assertTrue(turn.getTargets().contains(turn.getTarget()));
+		assertEquals(row, player.getRow());
+		assertEquals(column, player.getColumn());
+		assertEquals(numOccupied, board.getOccupancy().getNumOccupied());
+		assertNull(board.getCurrentSuggestion());
+	}
+
+	@Test
+	// Applying the turn moves the player to the chosen target
+	public void testApplyMovesPlayer() {
+		Player player = nextComputerPlayer();
+		TurnResult turn = board.computeTurn();
+		board.applyTurn(turn);
+
+		BoardCell target = turn.getTarget();
+		assertEquals(target.getRow(), player.getRow());
+		assertEquals(target.getCol(), player.getColumn());
+		assertTrue(target.isOccupied());
+		assertEquals(turn.getSuggestion(), board.getCurrentSuggestion());
+		assertEquals(turn.getDisprovingCard(), board.getCurrentDisprove());
+		if (target.isRoom()) {
+			assertNotNull(turn.getSuggestion());
+		}
+		else {
+			assertNull(turn.getSuggestion());
+		}
+	}
+
+	@Test
+	// A human turn only shows the targets
+	public void testHumanTurn() {
+		while (!board.getCurrentPlayer().isHuman()) {
+			board.updateCurrentPlayer();
+		}
+		TurnResult turn = board.computeTurn();
+		assertNull(turn.getTarget());
+		assertNull(turn.getSuggestion());
+		board.applyTurn(turn);
+		assertEquals(turn.getTargets().size(), board.getTargets().size());
+		assertFalse(turn.getTargets().size() == 0);
+	}
+}